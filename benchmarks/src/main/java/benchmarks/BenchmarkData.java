@@ -0,0 +1,26 @@
+package benchmarks;
+
+/**
+ * Shared test data for the benchmarks.
+ * Elements are boxed up front so the benchmarks measure the data
+ * structures, not Integer.valueOf.
+ */
+final class BenchmarkData {
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * Returns distinct boxed values 0..count-1.
+     *
+     * @param count number of values
+     * @return the boxed values
+     */
+    static Integer[] values(int count) {
+        Integer[] values = new Integer[count];
+        for (int i = 0; i < count; i++) {
+            values[i] = Integer.valueOf(i);
+        }
+        return values;
+    }
+}
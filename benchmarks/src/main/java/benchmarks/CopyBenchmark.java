@@ -0,0 +1,79 @@
+package benchmarks;
+
+import MyQueue.ArrayQueue;
+import MyQueue.LinkedListQueue;
+import MyStack.LinkedListStack;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Whole-structure operations: clone, reverse and toArray.
+ * Run with the GC profiler to see the allocation cost of each copy.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CopyBenchmark {
+
+    @Param({"16", "1024", "65536"})
+    int size;
+
+    ArrayQueue<Integer> arrayQueue;
+    LinkedListQueue<Integer> linkedListQueue;
+    LinkedListStack<Integer> linkedListStack;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Integer[] values = BenchmarkData.values(size);
+        arrayQueue = new ArrayQueue<>(size);
+        linkedListQueue = new LinkedListQueue<>();
+        linkedListStack = new LinkedListStack<>();
+        for (int i = 0; i < size; i++) {
+            arrayQueue.enqueue(values[i]);
+            linkedListQueue.enqueue(values[i]);
+            linkedListStack.push(values[i]);
+        }
+    }
+
+    @Benchmark
+    public LinkedListQueue<Integer> cloneLinkedListQueue() {
+        return linkedListQueue.clone();
+    }
+
+    @Benchmark
+    public LinkedListQueue<Integer> reverseLinkedListQueue() {
+        linkedListQueue.reverse();
+        return linkedListQueue;
+    }
+
+    @Benchmark
+    public LinkedListStack<Integer> reverseLinkedListStack() {
+        linkedListStack.reverse();
+        return linkedListStack;
+    }
+
+    @Benchmark
+    public Object[] toArrayArrayQueue() {
+        return arrayQueue.toArray();
+    }
+
+    @Benchmark
+    public Object[] toArrayLinkedListQueue() {
+        return linkedListQueue.toArray();
+    }
+}
@@ -0,0 +1,91 @@
+package benchmarks;
+
+import MyQueue.DaryHeapPriorityQueue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Comparator;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Steady-state priority queue churn: with `size` elements already queued,
+ * each operation dequeues the smallest and enqueues a fresh random one.
+ * Compares binary, 4-ary and 8-ary DaryHeapPriorityQueue, with a Comparator
+ * and with a primitive long key, against java.util.PriorityQueue.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PriorityQueueBenchmark {
+
+    @Param({"1024", "1048576"})
+    int size;
+
+    @Param({"2", "4", "8"})
+    int arity;
+
+    Integer[] values;
+    int next;
+    DaryHeapPriorityQueue<Integer> comparatorHeap;
+    DaryHeapPriorityQueue<Integer> longKeyHeap;
+    PriorityQueue<Integer> jdkQueue;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // Random priorities, so sifting touches scattered parts of the heap
+        Random random = new Random(42);
+        values = new Integer[1 << 20];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = Integer.valueOf(random.nextInt());
+        }
+        comparatorHeap = new DaryHeapPriorityQueue<>(arity, size, Comparator.naturalOrder());
+        longKeyHeap = DaryHeapPriorityQueue.withLongKey(arity, size, Integer::longValue);
+        jdkQueue = new PriorityQueue<>(size);
+        for (int i = 0; i < size; i++) {
+            comparatorHeap.enqueue(values[i]);
+            longKeyHeap.enqueue(values[i]);
+            jdkQueue.add(values[i]);
+        }
+    }
+
+    private Integer nextValue() {
+        next = (next + 1) & (values.length - 1);
+        return values[next];
+    }
+
+    @Benchmark
+    public Integer comparatorHeap() {
+        Integer smallest = comparatorHeap.dequeue();
+        comparatorHeap.enqueue(nextValue());
+        return smallest;
+    }
+
+    @Benchmark
+    public Integer longKeyHeap() {
+        Integer smallest = longKeyHeap.dequeue();
+        longKeyHeap.enqueue(nextValue());
+        return smallest;
+    }
+
+    @Benchmark
+    public Integer jdkPriorityQueue() {
+        Integer smallest = jdkQueue.poll();
+        jdkQueue.add(nextValue());
+        return smallest;
+    }
+}
@@ -0,0 +1,166 @@
+package benchmarks;
+
+import MyQueue.ArrayQueue;
+import MyQueue.CircularArrayDeque;
+import MyQueue.ConcurrentArrayQueue;
+import MyQueue.ConcurrentLinkedListQueue;
+import MyQueue.IntArrayQueue;
+import MyQueue.LinkedListQueue;
+import MyQueue.SpscArrayQueue;
+import MyQueue.UnrolledLinkedListQueue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Enqueue/dequeue costs of the queue implementations.
+ * - pingPong: one enqueue + one dequeue on a queue holding `size` elements (steady state,
+ *   the circular queues keep wrapping around)
+ * - fillDrain: enqueue `size` elements into an empty queue, then dequeue them all (burst)
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class QueueBenchmark {
+
+    @Param({"16", "1024", "65536"})
+    int size;
+
+    Integer[] values;
+    ArrayQueue<Integer> arrayQueue;
+    LinkedListQueue<Integer> linkedListQueue;
+    ConcurrentArrayQueue<Integer> concurrentArrayQueue;
+    ConcurrentLinkedListQueue<Integer> concurrentLinkedListQueue;
+    SpscArrayQueue<Integer> spscQueue;
+    IntArrayQueue intQueue;
+    CircularArrayDeque<Integer> deque;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        values = BenchmarkData.values(size);
+        arrayQueue = new ArrayQueue<>(size + 1);
+        linkedListQueue = new LinkedListQueue<>();
+        concurrentArrayQueue = new ConcurrentArrayQueue<>(size + 1);
+        concurrentLinkedListQueue = new ConcurrentLinkedListQueue<>();
+        spscQueue = new SpscArrayQueue<>(size + 1);
+        intQueue = new IntArrayQueue(size + 1);
+        deque = new CircularArrayDeque<>(size + 1);
+        for (int i = 0; i < size; i++) {
+            arrayQueue.enqueue(values[i]);
+            linkedListQueue.enqueue(values[i]);
+            concurrentArrayQueue.enqueue(values[i]);
+            concurrentLinkedListQueue.enqueue(values[i]);
+            spscQueue.enqueue(values[i]);
+            intQueue.enqueue(i);
+            deque.enqueue(values[i]);
+        }
+    }
+
+    @Benchmark
+    public Integer pingPongArrayQueue() {
+        arrayQueue.enqueue(values[0]);
+        return arrayQueue.dequeue();
+    }
+
+    @Benchmark
+    public Integer pingPongLinkedListQueue() {
+        linkedListQueue.enqueue(values[0]);
+        return linkedListQueue.dequeue();
+    }
+
+    @Benchmark
+    public Integer pingPongConcurrentArrayQueue() {
+        concurrentArrayQueue.enqueue(values[0]);
+        return concurrentArrayQueue.dequeue();
+    }
+
+    @Benchmark
+    public Integer pingPongConcurrentLinkedListQueue() {
+        concurrentLinkedListQueue.enqueue(values[0]);
+        return concurrentLinkedListQueue.dequeue();
+    }
+
+    @Benchmark
+    public Integer pingPongSpscArrayQueue() {
+        spscQueue.enqueue(values[0]);
+        return spscQueue.dequeue();
+    }
+
+    @Benchmark
+    public Integer pingPongCircularArrayDeque() {
+        deque.enqueue(values[0]);
+        return deque.dequeue();
+    }
+
+    @Benchmark
+    public int pingPongIntArrayQueue() {
+        intQueue.enqueue(42);
+        return intQueue.dequeue();
+    }
+
+    @Benchmark
+    public void fillDrainArrayQueue(Blackhole blackhole) {
+        ArrayQueue<Integer> queue = new ArrayQueue<>(size);
+        for (int i = 0; i < size; i++) {
+            queue.enqueue(values[i]);
+        }
+        while (!queue.isEmpty()) {
+            blackhole.consume(queue.dequeue());
+        }
+    }
+
+    @Benchmark
+    public void fillDrainLinkedListQueue(Blackhole blackhole) {
+        LinkedListQueue<Integer> queue = new LinkedListQueue<>();
+        for (int i = 0; i < size; i++) {
+            queue.enqueue(values[i]);
+        }
+        while (!queue.isEmpty()) {
+            blackhole.consume(queue.dequeue());
+        }
+    }
+
+    @Benchmark
+    public void fillDrainUnrolledLinkedListQueue(Blackhole blackhole) {
+        UnrolledLinkedListQueue<Integer> queue = new UnrolledLinkedListQueue<>();
+        for (int i = 0; i < size; i++) {
+            queue.enqueue(values[i]);
+        }
+        while (!queue.isEmpty()) {
+            blackhole.consume(queue.dequeue());
+        }
+    }
+
+    @Benchmark
+    public void fillDrainIntArrayQueue(Blackhole blackhole) {
+        IntArrayQueue queue = new IntArrayQueue(size);
+        for (int i = 0; i < size; i++) {
+            queue.enqueue(i);
+        }
+        while (!queue.isEmpty()) {
+            blackhole.consume(queue.dequeue());
+        }
+    }
+
+    @Benchmark
+    public void fillDrainArrayQueueBulk(Blackhole blackhole) {
+        ArrayQueue<Integer> queue = new ArrayQueue<>(size);
+        queue.enqueueAll(values);
+        queue.drainTo(blackhole::consume, size);
+    }
+}
@@ -0,0 +1,142 @@
+package benchmarks;
+
+import MyQueue.ArrayQueue;
+import MyQueue.IntArrayQueue;
+import MyQueue.LinkedListQueue;
+import MyQueue.UnrolledLinkedListQueue;
+import MyStack.LinkedListStack;
+import MyStack.LongArrayStack;
+import MyStack.UnrolledLinkedListStack;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Linear scans: contains/indexOf on the queues and search on LinkedListStack.
+ * The target is a value that is not present, so every scan walks all `size` elements.
+ * The ArrayQueue is filled so its contents wrap around the end of the array.
+ * The parallel variants split the ArrayQueue along its two array segments
+ * and only pay off at the largest size. The primitive scans use SIMD
+ * compares (the fork adds the jdk.incubator.vector module); run with
+ * `-jvmArgsAppend -Dcommon.vector=false` for the scalar baseline.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+@State(Scope.Thread)
+public class ScanBenchmark {
+
+    @Param({"16", "1024", "65536", "4194304"})
+    int size;
+
+    Integer missing;
+    ArrayQueue<Integer> arrayQueue;
+    LinkedListQueue<Integer> linkedListQueue;
+    LinkedListStack<Integer> linkedListStack;
+    UnrolledLinkedListQueue<Integer> unrolledQueue;
+    UnrolledLinkedListStack<Integer> unrolledStack;
+    IntArrayQueue intQueue;
+    LongArrayStack longStack;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Integer[] values = BenchmarkData.values(size);
+        missing = Integer.valueOf(-1);
+        arrayQueue = new ArrayQueue<>(size);
+        linkedListQueue = new LinkedListQueue<>();
+        linkedListStack = new LinkedListStack<>();
+        unrolledQueue = new UnrolledLinkedListQueue<>();
+        unrolledStack = new UnrolledLinkedListStack<>();
+        intQueue = new IntArrayQueue(size);
+        longStack = new LongArrayStack(size);
+
+        // Move the front of the ArrayQueue to the middle so scans cross the wrap point
+        for (int i = 0; i < size / 2; i++) {
+            arrayQueue.enqueue(values[i]);
+        }
+        for (int i = 0; i < size / 2; i++) {
+            arrayQueue.dequeue();
+        }
+        for (int i = 0; i < size / 2; i++) {
+            intQueue.enqueue(i);
+            intQueue.dequeue();
+        }
+        for (int i = 0; i < size; i++) {
+            arrayQueue.enqueue(values[i]);
+            linkedListQueue.enqueue(values[i]);
+            linkedListStack.push(values[i]);
+            unrolledQueue.enqueue(values[i]);
+            unrolledStack.push(values[i]);
+            intQueue.enqueue(i);
+            longStack.push(i);
+        }
+    }
+
+    @Benchmark
+    public boolean containsArrayQueue() {
+        return arrayQueue.contains(missing);
+    }
+
+    @Benchmark
+    public int indexOfArrayQueue() {
+        return arrayQueue.indexOf(missing);
+    }
+
+    @Benchmark
+    public boolean parallelContainsArrayQueue() {
+        return arrayQueue.parallelContains(missing);
+    }
+
+    @Benchmark
+    public int parallelIndexOfArrayQueue() {
+        return arrayQueue.parallelIndexOf(missing);
+    }
+
+    @Benchmark
+    public int indexOfIntArrayQueue() {
+        return intQueue.indexOf(-1);
+    }
+
+    @Benchmark
+    public int searchLongArrayStack() {
+        return longStack.search(-1L);
+    }
+
+    @Benchmark
+    public boolean containsLinkedListQueue() {
+        return linkedListQueue.contains(missing);
+    }
+
+    @Benchmark
+    public int indexOfLinkedListQueue() {
+        return linkedListQueue.indexOf(missing);
+    }
+
+    @Benchmark
+    public int searchLinkedListStack() {
+        return linkedListStack.search(missing);
+    }
+
+    @Benchmark
+    public int indexOfUnrolledLinkedListQueue() {
+        return unrolledQueue.indexOf(missing);
+    }
+
+    @Benchmark
+    public int searchUnrolledLinkedListStack() {
+        return unrolledStack.search(missing);
+    }
+}
@@ -0,0 +1,89 @@
+package benchmarks;
+
+import MyStack.WorkStealingPool;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * WorkStealingPool against ForkJoinPool on the same fire-and-forget workload:
+ * a range of `tasks` leaf tasks is split recursively in halves, each split
+ * forking both halves onto the current worker, until quiescence.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SchedulerBenchmark {
+
+    @Param({"1024", "65536"})
+    int tasks;
+
+    WorkStealingPool workStealingPool;
+    ForkJoinPool forkJoinPool;
+    final LongAdder sink = new LongAdder();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        int parallelism = Runtime.getRuntime().availableProcessors();
+        workStealingPool = new WorkStealingPool(parallelism);
+        forkJoinPool = new ForkJoinPool(parallelism);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        workStealingPool.shutdown();
+        forkJoinPool.shutdown();
+    }
+
+    @Benchmark
+    public long workStealingPool() throws InterruptedException {
+        workStealingPool.submit(() -> splitWorkStealing(0, tasks));
+        workStealingPool.awaitQuiescence(1, TimeUnit.MINUTES);
+        return sink.sum();
+    }
+
+    @Benchmark
+    public long forkJoinPool() {
+        forkJoinPool.execute(() -> splitForkJoin(0, tasks));
+        forkJoinPool.awaitQuiescence(1, TimeUnit.MINUTES);
+        return sink.sum();
+    }
+
+    private void splitWorkStealing(int from, int to) {
+        if (to - from == 1) {
+            sink.increment();
+            return;
+        }
+        int mid = (from + to) >>> 1;
+        workStealingPool.fork(() -> splitWorkStealing(from, mid));
+        workStealingPool.fork(() -> splitWorkStealing(mid, to));
+    }
+
+    private void splitForkJoin(int from, int to) {
+        if (to - from == 1) {
+            sink.increment();
+            return;
+        }
+        int mid = (from + to) >>> 1;
+        ForkJoinTask.adapt(() -> splitForkJoin(from, mid)).fork();
+        ForkJoinTask.adapt(() -> splitForkJoin(mid, to)).fork();
+    }
+}
@@ -0,0 +1,70 @@
+package benchmarks;
+
+import MyQueue.ArrayQueue;
+import MyQueue.ConcurrentArrayQueue;
+import MyQueue.ShardedQueue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Multi-threaded pingPong (one offer + one poll per operation) on a queue
+ * shared by all benchmark threads: ShardedQueue against a single
+ * ConcurrentArrayQueue and a lock-guarded ArrayQueue. Runs with one thread
+ * per processor by default; use `-t 1,2,4,...` to see how each one scales.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(Threads.MAX)
+@State(Scope.Benchmark)
+public class ShardedQueueBenchmark {
+
+    static final int CAPACITY = 1 << 16;
+
+    final Integer value = 42;
+    ShardedQueue<Integer> shardedQueue;
+    ConcurrentArrayQueue<Integer> concurrentArrayQueue;
+    ArrayQueue<Integer> lockedArrayQueue;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        int shards = Runtime.getRuntime().availableProcessors();
+        shardedQueue = new ShardedQueue<>(shards, CAPACITY / shards, 32);
+        concurrentArrayQueue = new ConcurrentArrayQueue<>(CAPACITY);
+        lockedArrayQueue = new ArrayQueue<>(CAPACITY);
+    }
+
+    @Benchmark
+    public Integer shardedQueue() {
+        shardedQueue.offer(value);
+        return shardedQueue.poll();
+    }
+
+    @Benchmark
+    public Integer concurrentArrayQueue() {
+        concurrentArrayQueue.offer(value);
+        return concurrentArrayQueue.poll();
+    }
+
+    @Benchmark
+    public Integer lockedArrayQueue() {
+        synchronized (lockedArrayQueue) {
+            lockedArrayQueue.offer(value);
+            return lockedArrayQueue.poll();
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package benchmarks;
+
+import MyStack.ArrayStack;
+import MyStack.ConcurrentLinkedListStack;
+import MyStack.IntArrayStack;
+import MyStack.LinkedListStack;
+import MyStack.UnrolledLinkedListStack;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Push/pop costs of the stack implementations.
+ * - pushPop: one push + one pop on a stack holding `size` elements (steady state)
+ * - fillDrain: push `size` elements onto an empty stack, then pop them all (burst)
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class StackBenchmark {
+
+    @Param({"16", "1024", "65536"})
+    int size;
+
+    Integer[] values;
+    ArrayStack<Integer> arrayStack;
+    LinkedListStack<Integer> linkedListStack;
+    ConcurrentLinkedListStack<Integer> concurrentStack;
+    IntArrayStack intStack;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        values = BenchmarkData.values(size);
+        arrayStack = new ArrayStack<>(size * 2);
+        linkedListStack = new LinkedListStack<>();
+        concurrentStack = new ConcurrentLinkedListStack<>();
+        intStack = new IntArrayStack(size * 2);
+        for (int i = 0; i < size; i++) {
+            arrayStack.push(values[i]);
+            linkedListStack.push(values[i]);
+            concurrentStack.push(values[i]);
+            intStack.push(i);
+        }
+    }
+
+    @Benchmark
+    public Integer pushPopArrayStack() {
+        arrayStack.push(values[0]);
+        return arrayStack.pop();
+    }
+
+    @Benchmark
+    public Integer pushPopLinkedListStack() {
+        linkedListStack.push(values[0]);
+        return linkedListStack.pop();
+    }
+
+    @Benchmark
+    public Integer pushPopConcurrentLinkedListStack() {
+        concurrentStack.push(values[0]);
+        return concurrentStack.pop();
+    }
+
+    @Benchmark
+    public int pushPopIntArrayStack() {
+        intStack.push(42);
+        return intStack.pop();
+    }
+
+    @Benchmark
+    public void fillDrainArrayStack(Blackhole blackhole) {
+        ArrayStack<Integer> stack = new ArrayStack<>(size);
+        for (int i = 0; i < size; i++) {
+            stack.push(values[i]);
+        }
+        while (!stack.isEmpty()) {
+            blackhole.consume(stack.pop());
+        }
+    }
+
+    @Benchmark
+    public void fillDrainLinkedListStack(Blackhole blackhole) {
+        LinkedListStack<Integer> stack = new LinkedListStack<>();
+        for (int i = 0; i < size; i++) {
+            stack.push(values[i]);
+        }
+        while (!stack.isEmpty()) {
+            blackhole.consume(stack.pop());
+        }
+    }
+
+    @Benchmark
+    public void fillDrainUnrolledLinkedListStack(Blackhole blackhole) {
+        UnrolledLinkedListStack<Integer> stack = new UnrolledLinkedListStack<>();
+        for (int i = 0; i < size; i++) {
+            stack.push(values[i]);
+        }
+        while (!stack.isEmpty()) {
+            blackhole.consume(stack.pop());
+        }
+    }
+
+    @Benchmark
+    public void fillDrainIntArrayStack(Blackhole blackhole) {
+        IntArrayStack stack = new IntArrayStack(size);
+        for (int i = 0; i < size; i++) {
+            stack.push(i);
+        }
+        while (!stack.isEmpty()) {
+            blackhole.consume(stack.pop());
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package benchmarks;
+
+import MyQueue.TimingWheel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TimingWheel against a sorted set of deadlines with `pending` timers outstanding:
+ * - scheduleCancel: arm a timeout and cancel it (the common case for request timeouts)
+ * - tick: arm one timer `pending` ticks out and advance one tick, which expires
+ *   exactly one, so the number of pending timers stays constant
+ * The sorted set encodes each timer as (deadline << 24 | sequence) so keys are unique.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Thread)
+public class TimingWheelBenchmark {
+    private static final int SEQUENCE_BITS = 24;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    @Param({"1024", "1048576"})
+    int pending;
+
+    TimingWheel<Long> wheel;
+    TreeSet<Long> sortedSet;
+    long now;
+    long sequence;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        wheel = new TimingWheel<>();
+        sortedSet = new TreeSet<>();
+        now = 0;
+        sequence = 0;
+        for (int delay = 1; delay <= pending; delay++) {
+            wheel.schedule((long) delay, delay);
+            sortedSet.add(key(delay));
+        }
+    }
+
+    @Benchmark
+    public boolean scheduleCancelTimingWheel() {
+        TimingWheel.Timer<Long> timer = wheel.schedule(sequence, pending / 2);
+        return wheel.cancel(timer);
+    }
+
+    @Benchmark
+    public boolean scheduleCancelSortedSet() {
+        Long key = key(now + pending / 2);
+        sortedSet.add(key);
+        return sortedSet.remove(key);
+    }
+
+    @Benchmark
+    public int tickTimingWheel(Blackhole blackhole) {
+        wheel.schedule(sequence++, pending);
+        return wheel.advance(blackhole::consume);
+    }
+
+    @Benchmark
+    public int tickSortedSet(Blackhole blackhole) {
+        sortedSet.add(key(now + pending));
+        now++;
+        int expired = 0;
+        while (!sortedSet.isEmpty() && (sortedSet.first() >>> SEQUENCE_BITS) <= now) {
+            blackhole.consume(sortedSet.pollFirst());
+            expired++;
+        }
+        return expired;
+    }
+
+    private Long key(long deadline) {
+        return (deadline << SEQUENCE_BITS) | (sequence++ & SEQUENCE_MASK);
+    }
+}
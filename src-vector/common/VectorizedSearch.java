@@ -0,0 +1,93 @@
+package common;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * SIMD search kernels on the Vector API (jdk.incubator.vector).
+ * Each step loads one register's worth of elements, compares all lanes
+ * against the key at once, and only looks at individual lanes when the
+ * comparison mask has a hit. The remainder that does not fill a register
+ * is searched with a scalar loop.
+ *
+ * Kept in its own source root (src-vector) so src/ compiles without the
+ * incubator module. PrimitiveSearch finds this class by name and calls it
+ * through method handles, only once it checked that the module is present.
+ */
+final class VectorizedSearch {
+    private static final VectorSpecies<Integer> INTS = IntVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Long> LONGS = LongVector.SPECIES_PREFERRED;
+
+    private VectorizedSearch() {
+    }
+
+    static int indexOf(int[] array, int from, int to, int key) {
+        int i = from;
+        int bound = from + INTS.loopBound(to - from);
+        for (; i < bound; i += INTS.length()) {
+            VectorMask<Integer> hits = IntVector.fromArray(INTS, array, i).eq(key);
+            if (hits.anyTrue()) {
+                return i + hits.firstTrue();
+            }
+        }
+        for (; i < to; i++) {
+            if (array[i] == key) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    static int lastIndexOf(int[] array, int from, int to, int key) {
+        // Whole registers aligned to the end of the range, then the scalar head
+        int lower = to - INTS.loopBound(to - from);
+        for (int i = to - INTS.length(); i >= lower; i -= INTS.length()) {
+            VectorMask<Integer> hits = IntVector.fromArray(INTS, array, i).eq(key);
+            if (hits.anyTrue()) {
+                return i + hits.lastTrue();
+            }
+        }
+        for (int i = lower - 1; i >= from; i--) {
+            if (array[i] == key) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    static int indexOf(long[] array, int from, int to, long key) {
+        int i = from;
+        int bound = from + LONGS.loopBound(to - from);
+        for (; i < bound; i += LONGS.length()) {
+            VectorMask<Long> hits = LongVector.fromArray(LONGS, array, i).eq(key);
+            if (hits.anyTrue()) {
+                return i + hits.firstTrue();
+            }
+        }
+        for (; i < to; i++) {
+            if (array[i] == key) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    static int lastIndexOf(long[] array, int from, int to, long key) {
+        // Whole registers aligned to the end of the range, then the scalar head
+        int lower = to - LONGS.loopBound(to - from);
+        for (int i = to - LONGS.length(); i >= lower; i -= LONGS.length()) {
+            VectorMask<Long> hits = LongVector.fromArray(LONGS, array, i).eq(key);
+            if (hits.anyTrue()) {
+                return i + hits.lastTrue();
+            }
+        }
+        for (int i = lower - 1; i >= from; i--) {
+            if (array[i] == key) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -3,7 +3,37 @@ package Exeptions;
  * Exception thrown when attempting to enqueue to a full queue.
  */
 public class QueueOverflowException extends RuntimeException {
+    // Shared instance thrown in stackless mode
+    private static final QueueOverflowException SHARED = new QueueOverflowException("Queue is full.", false);
+
     public QueueOverflowException(String message) {
         super(message);
     }
+
+    /**
+     * Constructs an exception, optionally without a stack trace.
+     * Without one, constructing the exception skips fillInStackTrace.
+     *
+     * @param message            the detail message
+     * @param writableStackTrace false to never record a stack trace
+     */
+    public QueueOverflowException(String message, boolean writableStackTrace) {
+        super(message, null, false, writableStackTrace);
+    }
+
+    /**
+     * Returns the exception to throw for a full queue.
+     * Normally a new exception with a stack trace. With -DExeptions.stackless=true
+     * it is one shared, preallocated instance without a stack trace, so throwing
+     * allocates nothing (the message is then generic).
+     *
+     * @param message the detail message
+     * @return the exception to throw
+     */
+    public static QueueOverflowException of(String message) {
+        if (StacklessMode.ENABLED) {
+            return SHARED;
+        }
+        return new QueueOverflowException(message);
+    }
 }
\ No newline at end of file
@@ -3,8 +3,38 @@ package Exeptions;
 /**
  * Exception thrown when attempting to dequeue or peek from an empty queue.
  */
-public class QueueUnderflowException extends RuntimeException {
+public class QueueUnderflowException extends UnderflowException {
+    // Shared instance thrown in stackless mode
+    private static final QueueUnderflowException SHARED = new QueueUnderflowException("Queue is empty.", false);
+
     public QueueUnderflowException(String message) {
         super(message);
     }
+
+    /**
+     * Constructs an exception, optionally without a stack trace.
+     * Without one, constructing the exception skips fillInStackTrace.
+     *
+     * @param message            the detail message
+     * @param writableStackTrace false to never record a stack trace
+     */
+    public QueueUnderflowException(String message, boolean writableStackTrace) {
+        super(message, writableStackTrace);
+    }
+
+    /**
+     * Returns the exception to throw for an empty queue.
+     * Normally a new exception with a stack trace. With -DExeptions.stackless=true
+     * it is one shared, preallocated instance without a stack trace, so throwing
+     * allocates nothing (the message is then generic).
+     *
+     * @param message the detail message
+     * @return the exception to throw
+     */
+    public static QueueUnderflowException of(String message) {
+        if (StacklessMode.ENABLED) {
+            return SHARED;
+        }
+        return new QueueUnderflowException(message);
+    }
 }
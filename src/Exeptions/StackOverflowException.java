@@ -5,7 +5,37 @@ package Exeptions;
  * Exception thrown when attempting to push to a full stack.
  */
 public class StackOverflowException extends RuntimeException {
+    // Shared instance thrown in stackless mode
+    private static final StackOverflowException SHARED = new StackOverflowException("Stack is full.", false);
+
     public StackOverflowException(String message) {
         super(message);
     }
+
+    /**
+     * Constructs an exception, optionally without a stack trace.
+     * Without one, constructing the exception skips fillInStackTrace.
+     *
+     * @param message            the detail message
+     * @param writableStackTrace false to never record a stack trace
+     */
+    public StackOverflowException(String message, boolean writableStackTrace) {
+        super(message, null, false, writableStackTrace);
+    }
+
+    /**
+     * Returns the exception to throw for a full stack.
+     * Normally a new exception with a stack trace. With -DExeptions.stackless=true
+     * it is one shared, preallocated instance without a stack trace, so throwing
+     * allocates nothing (the message is then generic).
+     *
+     * @param message the detail message
+     * @return the exception to throw
+     */
+    public static StackOverflowException of(String message) {
+        if (StacklessMode.ENABLED) {
+            return SHARED;
+        }
+        return new StackOverflowException(message);
+    }
 }
\ No newline at end of file
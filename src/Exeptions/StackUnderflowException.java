@@ -4,8 +4,38 @@ package Exeptions;
 /**
  * Exception thrown when attempting to pop or peek from an empty stack.
  */
-public class StackUnderflowException extends RuntimeException {
+public class StackUnderflowException extends UnderflowException {
+    // Shared instance thrown in stackless mode
+    private static final StackUnderflowException SHARED = new StackUnderflowException("Stack is empty.", false);
+
     public StackUnderflowException(String message) {
         super(message);
     }
+
+    /**
+     * Constructs an exception, optionally without a stack trace.
+     * Without one, constructing the exception skips fillInStackTrace.
+     *
+     * @param message            the detail message
+     * @param writableStackTrace false to never record a stack trace
+     */
+    public StackUnderflowException(String message, boolean writableStackTrace) {
+        super(message, writableStackTrace);
+    }
+
+    /**
+     * Returns the exception to throw for an empty stack.
+     * Normally a new exception with a stack trace. With -DExeptions.stackless=true
+     * it is one shared, preallocated instance without a stack trace, so throwing
+     * allocates nothing (the message is then generic).
+     *
+     * @param message the detail message
+     * @return the exception to throw
+     */
+    public static StackUnderflowException of(String message) {
+        if (StacklessMode.ENABLED) {
+            return SHARED;
+        }
+        return new StackUnderflowException(message);
+    }
 }
\ No newline at end of file
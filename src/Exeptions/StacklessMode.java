@@ -0,0 +1,12 @@
+package Exeptions;
+
+/**
+ * Switch for stackless exceptions, read once at class-load time.
+ * Enable with -DExeptions.stackless=true.
+ */
+final class StacklessMode {
+    static final boolean ENABLED = Boolean.getBoolean("Exeptions.stackless");
+
+    private StacklessMode() {
+    }
+}
@@ -0,0 +1,24 @@
+package Exeptions;
+
+/**
+ * Common superclass of StackUnderflowException and QueueUnderflowException.
+ * Catch it to handle "empty" from any structure, including one that is both
+ * a Stack and a Queue (CircularArrayDeque), without knowing which of the
+ * two exceptions a given method throws.
+ */
+public class UnderflowException extends RuntimeException {
+
+    public UnderflowException(String message) {
+        super(message);
+    }
+
+    /**
+     * Constructs an exception, optionally without a stack trace.
+     *
+     * @param message            the detail message
+     * @param writableStackTrace false to never record a stack trace
+     */
+    public UnderflowException(String message, boolean writableStackTrace) {
+        super(message, null, false, writableStackTrace);
+    }
+}
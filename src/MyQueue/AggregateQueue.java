@@ -0,0 +1,176 @@
+package MyQueue;
+
+import Exeptions.QueueUnderflowException;
+import MyStack.AggregateStack;
+
+import java.util.Objects;
+import java.util.function.BinaryOperator;
+
+/**
+ * A FIFO queue that keeps a running aggregate of its elements, built from two AggregateStacks.
+ * New elements are pushed on the back stack. Dequeue pops the front stack,
+ * refilling it from the back stack when it runs empty; the refill reverses
+ * the order, so the front stack's top is the oldest element. Each element
+ * moves between the stacks at most once, so every operation, including
+ * aggregate(), is amortized O(1).
+ *
+ * Used as a sliding window: enqueue each event and dequeue once size()
+ * exceeds the window length; aggregate() is then the min/max/sum/... of the
+ * last N events without rescanning them.
+ *
+ * The combine function must be associative. It need not be commutative:
+ * aggregate() always combines elements in queue order, front to rear.
+ *
+ * @param <T> the type of elements and of the aggregate
+ */
+public class AggregateQueue<T> implements Queue<T> {
+    private final BinaryOperator<T> combine;
+    private final AggregateStack<T> front;  // Top is the oldest element
+    private final AggregateStack<T> back;   // Top is the newest element
+
+    /**
+     * Constructs an empty queue.
+     *
+     * @param combine associative function that combines (earlier, later) into one aggregate
+     * @throws NullPointerException if combine is null
+     */
+    public AggregateQueue(BinaryOperator<T> combine) {
+        this.combine = Objects.requireNonNull(combine, "combine");
+        // The front stack holds elements newest at the bottom, so it must combine in reverse
+        this.front = new AggregateStack<>((below, above) -> combine.apply(above, below));
+        this.back = new AggregateStack<>(combine);
+    }
+
+    /**
+     * Adds an element to the rear of the queue.
+     * Time Complexity: amortized O(1) plus one combine call
+     *
+     * @param element the element to add
+     * @throws IllegalArgumentException if element is null
+     */
+    public void enqueue(T element) {
+        if (element == null) {
+            throw new IllegalArgumentException("Cannot enqueue null element");
+        }
+        back.push(element);
+    }
+
+    /**
+     * Removes and returns the element at the front of the queue.
+     * Time Complexity: amortized O(1)
+     *
+     * @return the element at the front of the queue
+     * @throws QueueUnderflowException if the queue is empty
+     */
+    public T dequeue() {
+        if (isEmpty()) {
+            throw QueueUnderflowException.of("Queue is empty. Cannot dequeue element.");
+        }
+        refillFront();
+        return front.pop();
+    }
+
+    /**
+     * Removes and returns the element at the front of the queue, if any.
+     * Time Complexity: amortized O(1)
+     *
+     * @return the element at the front of the queue, or null if the queue is empty
+     */
+    public T poll() {
+        if (isEmpty()) {
+            return null;
+        }
+        refillFront();
+        return front.pop();
+    }
+
+    /**
+     * Returns the element at the front of the queue without removing it.
+     * Time Complexity: amortized O(1)
+     *
+     * @return the element at the front of the queue
+     * @throws QueueUnderflowException if the queue is empty
+     */
+    public T peek() {
+        if (isEmpty()) {
+            throw QueueUnderflowException.of("Queue is empty. Cannot peek.");
+        }
+        refillFront();
+        return front.peek();
+    }
+
+    /**
+     * Returns all elements combined, from front to rear.
+     * Time Complexity: O(1)
+     *
+     * @return the aggregate of the whole queue
+     * @throws QueueUnderflowException if the queue is empty
+     */
+    public T aggregate() {
+        if (isEmpty()) {
+            throw QueueUnderflowException.of("Queue is empty. No aggregate.");
+        }
+        if (front.isEmpty()) {
+            return back.aggregate();
+        }
+        if (back.isEmpty()) {
+            return front.aggregate();
+        }
+        return combine.apply(front.aggregate(), back.aggregate());
+    }
+
+    /**
+     * Checks if the queue is empty.
+     * Time Complexity: O(1)
+     *
+     * @return true if the queue is empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return front.isEmpty() && back.isEmpty();
+    }
+
+    /**
+     * Returns the current number of elements in the queue.
+     * Time Complexity: O(1)
+     *
+     * @return the number of elements
+     */
+    public int size() {
+        return front.size() + back.size();
+    }
+
+    /**
+     * Removes all elements from the queue.
+     * Time Complexity: O(n) - to help garbage collection
+     */
+    public void clear() {
+        front.clear();
+        back.clear();
+    }
+
+    /**
+     * Returns a string representation of the queue.
+     * Time Complexity: O(n)
+     *
+     * @return string representation with the size and the aggregate
+     */
+    @Override
+    public String toString() {
+        if (isEmpty()) {
+            return "AggregateQueue: [] (empty)";
+        }
+        return "AggregateQueue: size = " + size() + ", aggregate = " + aggregate();
+    }
+
+    /**
+     * Moves every element from the back stack to the front stack once the front runs empty.
+     * Time Complexity: O(n) for that call, O(1) amortized per element
+     */
+    private void refillFront() {
+        if (front.isEmpty()) {
+            while (!back.isEmpty()) {
+                front.push(back.pop());
+            }
+        }
+    }
+}
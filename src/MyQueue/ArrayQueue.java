@@ -2,27 +2,119 @@ package MyQueue;
 
 import Exeptions.QueueOverflowException;
 import Exeptions.QueueUnderflowException;
+import common.CheckpointReader;
+import common.CheckpointWriter;
+import common.ElementSerializer;
+import common.HashIndex;
+import common.OverflowPolicy;
 
-public class ArrayQueue<T>{
+import java.io.IOException;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.OptionalInt;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A generic Queue implementation using a circular array.
+ * Follows FIFO (First In First Out) principle.
+ *
+ * In elastic mode the array doubles when an enqueue finds it full, and halves
+ * when a dequeue leaves it at most a quarter full (never below the initial
+ * capacity). Resizing unrolls the circular contents so the front moves back
+ * to index 0.
+ *
+ * A fixed-capacity queue can be given an OverflowPolicy: instead of
+ * rejecting an element that finds it full, it can drop that element
+ * (DROP_NEWEST) or overwrite the front (DROP_OLDEST), counting every drop.
+ *
+ * Iteration, spliterators and streams run front to rear over the live
+ * array without copying it; the queue must not be modified meanwhile.
+ *
+ * @param <T> the type of elements in this queue
+ */
+public class ArrayQueue<T> implements Queue<T>, Iterable<T> {
+
+    // Largest array size the JVM can reliably allocate
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
 
     private T[] queueArray;
     private int front;      // Index of the first element
     private int rear;       // Index of the last element
     private int size;       // Current number of elements
-    private int capacity;   // Maximum capacity
+    private int capacity;   // Maximum capacity (current array length in elastic mode)
+    private final boolean elastic;   // Grow/shrink instead of overflowing
+    private final int minCapacity;   // Elastic mode never shrinks below this
+    private final OverflowPolicy overflowPolicy;
+    private final Consumer<? super T> onDrop;  // Receives dropped elements; may be null
+    private long droppedCount;
+
+    // Indexed mode: element -> enqueue sequence numbers; null when disabled
+    private HashIndex<T> hashIndex;
+    private long dequeuedCount;      // Dequeues since the index was built
 
     /**
      * Constructs a queue with the specified capacity.
      *
      * @param capacity the maximum number of elements the queue can hold
-     * @throws IllegalArgumentException if capacity is less than 1
+     * @throws IllegalArgumentException if capacity is less than 1 or above the maximum array size
      */
-    @SuppressWarnings("unchecked")
     public ArrayQueue(int capacity) {
-        if (capacity < 1) {
-            throw new IllegalArgumentException("Capacity must be at least 1");
+        this(capacity, false);
+    }
+
+    /**
+     * Constructs a queue with the specified capacity, optionally elastic.
+     *
+     * @param capacity the initial (and, in elastic mode, minimum) capacity
+     * @param elastic  true to grow and shrink the array instead of overflowing
+     * @throws IllegalArgumentException if capacity is less than 1 or above the maximum array size
+     */
+    public ArrayQueue(int capacity, boolean elastic) {
+        this(capacity, elastic, OverflowPolicy.REJECT, null);
+    }
+
+    /**
+     * Constructs a fixed-capacity queue with an overflow policy.
+     *
+     * @param capacity the maximum number of elements the queue can hold
+     * @param policy   what to do with an element that finds the queue full
+     * @throws IllegalArgumentException if capacity is less than 1 or above the maximum array size
+     */
+    public ArrayQueue(int capacity, OverflowPolicy policy) {
+        this(capacity, false, policy, null);
+    }
+
+    /**
+     * Constructs a fixed-capacity queue with an overflow policy and a drop callback.
+     *
+     * @param capacity the maximum number of elements the queue can hold
+     * @param policy   what to do with an element that finds the queue full
+     * @param onDrop   called with every dropped element (the new one for
+     *                 DROP_NEWEST, the old front for DROP_OLDEST)
+     * @throws IllegalArgumentException if capacity is less than 1 or above the maximum array size
+     */
+    public ArrayQueue(int capacity, OverflowPolicy policy, Consumer<? super T> onDrop) {
+        this(capacity, false, policy, Objects.requireNonNull(onDrop, "onDrop"));
+    }
+
+    @SuppressWarnings("unchecked")
+    private ArrayQueue(int capacity, boolean elastic, OverflowPolicy policy, Consumer<? super T> onDrop) {
+        if (capacity < 1 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Capacity must be between 1 and " + MAX_CAPACITY);
         }
         this.capacity = capacity;
+        this.minCapacity = capacity;
+        this.elastic = elastic;
+        this.overflowPolicy = Objects.requireNonNull(policy, "policy");
+        this.onDrop = onDrop;
         this.queueArray = (T[]) new Object[capacity];
         this.front = 0;
         this.rear = -1;
@@ -31,10 +123,12 @@ public class ArrayQueue<T>{
 
     /**
      * Adds an element to the rear of the queue.
-     * Time Complexity: O(1)
+     * If the queue is full, the overflow policy decides: REJECT throws,
+     * DROP_NEWEST drops this element, DROP_OLDEST drops the front to make room.
+     * Time Complexity: O(1), amortized O(1) in elastic mode
      *
      * @param element the element to add
-     * @throws QueueOverflowException if the queue is full
+     * @throws QueueOverflowException if the queue is full and the policy is REJECT
      * @throws IllegalArgumentException if element is null
      */
     public void enqueue(T element) {
@@ -42,13 +136,37 @@ public class ArrayQueue<T>{
             throw new IllegalArgumentException("Cannot enqueue null element");
         }
         if (isFull()) {
-            throw new QueueOverflowException("Queue is full. Cannot enqueue element.");
+            if (overflowPolicy == OverflowPolicy.REJECT) {
+                throw QueueOverflowException.of("Queue is full. Cannot enqueue element.");
+            }
+            overflow(element);
+            return;
         }
+        insertRear(element);
+    }
 
-        // Circular increment: move rear to next position
-        rear = (rear + 1) % capacity;
-        queueArray[rear] = element;
-        size++;
+    /**
+     * Adds an element to the rear of the queue if there is room.
+     * Same as enqueue, but a full queue is reported by the return value
+     * instead of an exception, so callers that expect to hit capacity
+     * (e.g. dropping work under load) pay no exception cost.
+     * With DROP_OLDEST a full queue still takes the element, after dropping the front.
+     * Time Complexity: O(1), amortized O(1) in elastic mode
+     *
+     * @param element the element to add
+     * @return true if the element was added, false if the queue is full
+     *         (and, with DROP_NEWEST, the element was counted as dropped)
+     * @throws IllegalArgumentException if element is null
+     */
+    public boolean offer(T element) {
+        if (element == null) {
+            throw new IllegalArgumentException("Cannot enqueue null element");
+        }
+        if (isFull()) {
+            return overflow(element);
+        }
+        insertRear(element);
+        return true;
     }
 
     /**
@@ -60,23 +178,23 @@ public class ArrayQueue<T>{
      */
     public T dequeue() {
         if (isEmpty()) {
-            throw new QueueUnderflowException("Queue is empty. Cannot dequeue element.");
+            throw QueueUnderflowException.of("Queue is empty. Cannot dequeue element.");
         }
+        return takeFront();
+    }
 
-        T element = queueArray[front];
-        queueArray[front] = null;  // Help garbage collection
-
-        // Circular increment: move front to next position
-        front = (front + 1) % capacity;
-        size--;
-
-        // Optional: reset pointers when queue becomes empty
+    /**
+     * Removes and returns the element at the front of the queue, if any.
+     * Same as dequeue, but an empty queue is reported by returning null.
+     * Time Complexity: O(1)
+     *
+     * @return the element at the front of the queue, or null if the queue is empty
+     */
+    public T poll() {
         if (isEmpty()) {
-            front = 0;
-            rear = -1;
+            return null;
         }
-
-        return element;
+        return takeFront();
     }
 
     /**
@@ -88,11 +206,21 @@ public class ArrayQueue<T>{
      */
     public T peek() {
         if (isEmpty()) {
-            throw new QueueUnderflowException("Queue is empty. Cannot peek.");
+            throw QueueUnderflowException.of("Queue is empty. Cannot peek.");
         }
         return queueArray[front];
     }
 
+    /**
+     * Returns the element at the front of the queue without removing it, if any.
+     * Time Complexity: O(1)
+     *
+     * @return the element at the front of the queue, or null if the queue is empty
+     */
+    public T peekOrNull() {
+        return queueArray[front];  // Slots outside the live range are always null
+    }
+
     /**
      * Returns the element at the rear of the queue without removing it.
      * Time Complexity: O(1)
@@ -102,7 +230,7 @@ public class ArrayQueue<T>{
      */
     public T peekRear() {
         if (isEmpty()) {
-            throw new QueueUnderflowException("Queue is empty. Cannot peek rear.");
+            throw QueueUnderflowException.of("Queue is empty. Cannot peek rear.");
         }
         return queueArray[rear];
     }
@@ -119,11 +247,15 @@ public class ArrayQueue<T>{
 
     /**
      * Checks if the queue is full.
+     * An elastic queue is only full once it reaches the maximum array size.
      * Time Complexity: O(1)
      *
      * @return true if the queue is full, false otherwise
      */
     public boolean isFull() {
+        if (elastic) {
+            return size == MAX_CAPACITY;
+        }
         return size == capacity;
     }
 
@@ -138,7 +270,8 @@ public class ArrayQueue<T>{
     }
 
     /**
-     * Returns the maximum capacity of the queue.
+     * Returns the capacity of the queue.
+     * In elastic mode this is the current array length, which changes as the queue grows and shrinks.
      * Time Complexity: O(1)
      *
      * @return the capacity
@@ -147,10 +280,40 @@ public class ArrayQueue<T>{
         return capacity;
     }
 
+    /**
+     * Checks if the queue grows and shrinks instead of overflowing.
+     * Time Complexity: O(1)
+     *
+     * @return true if the queue is elastic, false otherwise
+     */
+    public boolean isElastic() {
+        return elastic;
+    }
+
+    /**
+     * Returns what the queue does with an element that finds it full.
+     *
+     * @return the overflow policy (REJECT unless one was given)
+     */
+    public OverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    /**
+     * Returns how many elements the overflow policy has dropped since the queue was created.
+     *
+     * @return the number of dropped elements
+     */
+    public long getDroppedCount() {
+        return droppedCount;
+    }
+
     /**
      * Removes all elements from the queue.
+     * An elastic queue also returns to its initial capacity.
      * Time Complexity: O(n) - to help garbage collection
      */
+    @SuppressWarnings("unchecked")
     public void clear() {
         // Clear all references for garbage collection
         for (int i = 0; i < capacity; i++) {
@@ -159,16 +322,425 @@ public class ArrayQueue<T>{
         front = 0;
         rear = -1;
         size = 0;
+        if (hashIndex != null) {
+            hashIndex.clear();
+            dequeuedCount = 0;
+        }
+
+        if (elastic && capacity > minCapacity) {
+            queueArray = (T[]) new Object[minCapacity];
+            capacity = minCapacity;
+        }
     }
 
     /**
-     * Searches for an element in the queue.
+     * Adds all elements of an array to the rear of the queue, in array order.
+     * Time Complexity: O(k) for k elements, copied with at most two bulk copies
+     *
+     * @param elements the elements to add
+     * @throws QueueOverflowException if the queue does not have room for all of them and the policy is REJECT
+     * @throws IllegalArgumentException if any element is null
+     */
+    public void enqueueAll(T[] elements) {
+        enqueueAll(elements, 0, elements.length);
+    }
+
+    /**
+     * Adds a slice of an array to the rear of the queue, in array order.
+     * Either all elements are added or, if there is not enough room, none are;
+     * with a DROP policy the elements that do not fit are handled one by one
+     * as enqueue would.
+     * Time Complexity: O(k) for k elements, copied with at most two bulk copies
+     *
+     * @param elements the source array
+     * @param offset   index of the first element to add
+     * @param length   number of elements to add
+     * @throws QueueOverflowException if the queue does not have room for all of them and the policy is REJECT
+     * @throws IllegalArgumentException if any element in the slice is null
+     * @throws IndexOutOfBoundsException if the slice is outside the array
+     */
+    public void enqueueAll(T[] elements, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, elements.length);
+        for (int i = offset; i < offset + length; i++) {
+            if (elements[i] == null) {
+                throw new IllegalArgumentException("Cannot enqueue null element");
+            }
+        }
+        if (length == 0) {
+            return;
+        }
+        if (length > remainingCapacity()) {
+            if (overflowPolicy == OverflowPolicy.REJECT) {
+                throw QueueOverflowException.of("Queue is full. Cannot enqueue " + length + " elements.");
+            }
+            for (int i = offset; i < offset + length; i++) {
+                enqueue(elements[i]);
+            }
+            return;
+        }
+        ensureCapacity(size + length);  // Only grows in elastic mode
+
+        // Copy into the free space after rear: up to the end of the array, then wrap to 0
+        int start = (rear + 1) % capacity;
+        int firstPart = Math.min(length, capacity - start);
+        System.arraycopy(elements, offset, queueArray, start, firstPart);
+        System.arraycopy(elements, offset + firstPart, queueArray, 0, length - firstPart);
+
+        if (hashIndex != null) {
+            for (int i = 0; i < length; i++) {
+                hashIndex.add(elements[offset + i], dequeuedCount + size + i);
+            }
+        }
+        rear = (start + length - 1) % capacity;
+        size += length;
+    }
+
+    /**
+     * Removes elements from the front of the queue into an array, in queue order.
+     * Time Complexity: O(k) for k elements, copied with at most two bulk copies
+     *
+     * @param destination the array to fill from index 0
+     * @return the number of elements removed (0 if the queue is empty)
+     */
+    public int dequeueInto(T[] destination) {
+        return dequeueInto(destination, 0, destination.length);
+    }
+
+    /**
+     * Removes up to maxElements from the front of the queue into an array, in queue order.
+     * Time Complexity: O(k) for k elements, copied with at most two bulk copies
+     *
+     * @param destination the array to fill
+     * @param offset      index in destination of the first element
+     * @param maxElements maximum number of elements to remove
+     * @return the number of elements removed (0 if the queue is empty)
+     * @throws IndexOutOfBoundsException if the slice is outside the array
+     */
+    public int dequeueInto(T[] destination, int offset, int maxElements) {
+        Objects.checkFromIndexSize(offset, maxElements, destination.length);
+        int count = Math.min(maxElements, size);
+        if (count == 0) {
+            return 0;
+        }
+
+        // Copy front..end of array, then wrap to 0 if needed
+        int firstPart = Math.min(count, capacity - front);
+        System.arraycopy(queueArray, front, destination, offset, firstPart);
+        System.arraycopy(queueArray, 0, destination, offset + firstPart, count - firstPart);
+
+        removeFront(count);
+        return count;
+    }
+
+    /**
+     * Removes up to maxElements from the front of the queue and passes them to a consumer, in queue order.
+     * If the consumer throws, the elements it already received stay removed.
+     * Time Complexity: O(k) for k elements
+     *
+     * @param consumer    receives each removed element
+     * @param maxElements maximum number of elements to remove
+     * @return the number of elements removed (0 if the queue is empty)
+     * @throws IllegalArgumentException if maxElements is negative
+     */
+    public int drainTo(Consumer<? super T> consumer, int maxElements) {
+        if (maxElements < 0) {
+            throw new IllegalArgumentException("maxElements must not be negative");
+        }
+        int count = Math.min(maxElements, size);
+        int drained = 0;
+
+        try {
+            // Walk the (at most two) contiguous segments without a modulo per element
+            int index = front;
+            while (drained < count) {
+                int segmentEnd = Math.min(capacity, index + (count - drained));
+                for (; index < segmentEnd; index++) {
+                    T element = queueArray[index];
+                    drained++;
+                    consumer.accept(element);
+                }
+                index = 0;
+            }
+        } finally {
+            removeFront(drained);
+        }
+        return drained;
+    }
+
+    /**
+     * Returns how many more elements can be enqueued before the queue is full.
+     * Time Complexity: O(1)
+     *
+     * @return the remaining capacity
+     */
+    public int remainingCapacity() {
+        return (elastic ? MAX_CAPACITY : capacity) - size;
+    }
+
+    /**
+     * Writes the queue to a channel as a binary checkpoint (see CheckpointWriter), front to rear.
+     * Streams through a fixed-size direct buffer; the queue is not copied.
+     * Time Complexity: O(n)
+     *
+     * @param channel    the destination channel (not closed by this method)
+     * @param serializer encodes each element
+     * @throws IOException if writing to the channel fails
+     */
+    public void writeTo(WritableByteChannel channel, ElementSerializer<T> serializer) throws IOException {
+        CheckpointWriter<T> writer = new CheckpointWriter<>(channel, serializer, CheckpointWriter.QUEUE, size);
+        for (int i = 0; i < size; i++) {
+            writer.write(queueArray[(front + i) % capacity]);
+        }
+        writer.finish();
+    }
+
+    /**
+     * Replaces the contents of the queue with a checkpoint written by writeTo.
+     * If reading fails the queue is left empty.
+     * Time Complexity: O(n)
+     *
+     * @param channel    the source channel (not closed by this method)
+     * @param serializer decodes each element
+     * @throws IOException if reading fails or the channel does not hold a queue checkpoint
+     * @throws QueueOverflowException if the checkpoint holds more elements than the queue can
+     */
+    public void readFrom(ReadableByteChannel channel, ElementSerializer<T> serializer) throws IOException {
+        CheckpointReader<T> reader = new CheckpointReader<>(channel, serializer, CheckpointWriter.QUEUE);
+        long count = reader.getCount();
+        if (count > (elastic ? MAX_CAPACITY : capacity)) {
+            throw QueueOverflowException.of("Queue is too small for a checkpoint of " + count + " elements.");
+        }
+        clear();
+        ensureCapacity((int) count);  // Only grows in elastic mode
+
+        try {
+            while (reader.hasNext()) {
+                insertRear(reader.next());
+            }
+        } catch (IOException | RuntimeException e) {
+            clear();
+            throw e;
+        }
+    }
+
+    /**
+     * Applies the overflow policy to an element that found the queue full.
+     *
+     * @param element the element that did not fit (not null)
+     * @return true if the element was added (DROP_OLDEST), false otherwise
+     */
+    private boolean overflow(T element) {
+        switch (overflowPolicy) {
+            case DROP_NEWEST:
+                dropped(element);
+                return false;
+            case DROP_OLDEST:
+                dropped(takeFront());
+                insertRear(element);
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Counts a dropped element and hands it to the drop callback, if any.
+     */
+    private void dropped(T element) {
+        droppedCount++;
+        if (onDrop != null) {
+            onDrop.accept(element);
+        }
+    }
+
+    /**
+     * Stores an element at the rear; the caller has already checked isFull.
+     *
+     * @param element the element to add (not null)
+     */
+    private void insertRear(T element) {
+        if (size == capacity) {
+            grow();  // Only reachable in elastic mode
+        }
+
+        // Circular increment: move rear to next position
+        rear = (rear + 1) % capacity;
+        queueArray[rear] = element;
+        if (hashIndex != null) {
+            hashIndex.add(element, dequeuedCount + size);
+        }
+        size++;
+    }
+
+    /**
+     * Removes the front element; the caller has already checked isEmpty.
+     *
+     * @return the element that was at the front
+     */
+    private T takeFront() {
+        T element = queueArray[front];
+        queueArray[front] = null;  // Help garbage collection
+        if (hashIndex != null) {
+            hashIndex.removeOldest(element);
+            dequeuedCount++;
+        }
+
+        // Circular increment: move front to next position
+        front = (front + 1) % capacity;
+        size--;
+
+        // Optional: reset pointers when queue becomes empty
+        if (isEmpty()) {
+            front = 0;
+            rear = -1;
+        }
+
+        shrinkIfSparse();
+        return element;
+    }
+
+    /**
+     * Drops count elements from the front after they were copied out.
+     *
+     * @param count number of elements to drop (at most size)
+     */
+    private void removeFront(int count) {
+        if (count == 0) {
+            return;
+        }
+        if (hashIndex != null) {
+            // Unindex before the slots are nulled
+            for (int i = 0; i < count; i++) {
+                hashIndex.removeOldest(queueArray[(front + i) % capacity]);
+            }
+            dequeuedCount += count;
+        }
+        int firstPart = Math.min(count, capacity - front);
+        Arrays.fill(queueArray, front, front + firstPart, null);  // Help garbage collection
+        Arrays.fill(queueArray, 0, count - firstPart, null);
+
+        front = (front + count) % capacity;
+        size -= count;
+
+        if (isEmpty()) {
+            front = 0;
+            rear = -1;
+        }
+        shrinkIfSparse();
+    }
+
+    /**
+     * Grows the array until it can hold the required number of elements.
+     *
+     * @param required the number of elements that must fit
+     */
+    private void ensureCapacity(int required) {
+        if (required <= capacity) {
+            return;
+        }
+        int newCapacity = capacity;
+        while (newCapacity < required) {
+            newCapacity = newCapacity > MAX_CAPACITY / 2 ? MAX_CAPACITY : newCapacity * 2;
+        }
+        resize(newCapacity);
+    }
+
+    /**
+     * Doubles the array, capped at the maximum array size.
+     * Time Complexity: O(n)
+     */
+    private void grow() {
+        int newCapacity = capacity > MAX_CAPACITY / 2 ? MAX_CAPACITY : capacity * 2;
+        resize(newCapacity);
+    }
+
+    /**
+     * Halves the array (repeatedly, after a bulk removal) while an elastic queue is at most a quarter full.
+     * Time Complexity: O(n) when it shrinks, O(1) otherwise
+     */
+    private void shrinkIfSparse() {
+        if (!elastic) {
+            return;
+        }
+        int newCapacity = capacity;
+        while (newCapacity > minCapacity && size <= newCapacity / 4) {
+            newCapacity = Math.max(minCapacity, newCapacity / 2);
+        }
+        if (newCapacity != capacity) {
+            resize(newCapacity);
+        }
+    }
+
+    /**
+     * Moves the elements into a new array of the given length.
+     * The circular contents are unrolled with at most two bulk copies
+     * (front..end of array, then 0..rear), so the front ends up at index 0.
      * Time Complexity: O(n)
      *
+     * @param newCapacity the new array length (at least size)
+     */
+    @SuppressWarnings("unchecked")
+    private void resize(int newCapacity) {
+        T[] newArray = (T[]) new Object[newCapacity];
+
+        if (size > 0) {
+            int firstPart = Math.min(size, capacity - front);
+            System.arraycopy(queueArray, front, newArray, 0, firstPart);
+            System.arraycopy(queueArray, 0, newArray, firstPart, size - firstPart);
+        }
+
+        queueArray = newArray;
+        capacity = newCapacity;
+        front = 0;
+        rear = size - 1;
+    }
+
+    /**
+     * Turns on indexed mode: contains and indexOf become O(1) hash lookups,
+     * at the cost of a HashMap update on every enqueue and dequeue.
+     * Does nothing if the queue is already indexed.
+     * Time Complexity: O(n) to index the current elements
+     */
+    public void enableIndex() {
+        if (hashIndex != null) {
+            return;
+        }
+        hashIndex = new HashIndex<>();
+        dequeuedCount = 0;
+        for (int i = 0; i < size; i++) {
+            hashIndex.add(queueArray[(front + i) % capacity], i);
+        }
+    }
+
+    /**
+     * Turns off indexed mode and releases the index; contains and indexOf scan again.
+     * Time Complexity: O(1)
+     */
+    public void disableIndex() {
+        hashIndex = null;
+    }
+
+    /**
+     * Checks if indexed mode is on.
+     * Time Complexity: O(1)
+     *
+     * @return true if contains and indexOf use the hash index
+     */
+    public boolean isIndexed() {
+        return hashIndex != null;
+    }
+
+    /**
+     * Searches for an element in the queue.
+     * Time Complexity: O(n), O(1) expected in indexed mode
+     *
      * @param element the element to search for
      * @return true if element exists, false otherwise
      */
     public boolean contains(T element) {
+        if (hashIndex != null) {
+            return hashIndex.contains(element);
+        }
         if (isEmpty()) {
             return false;
         }
@@ -188,12 +760,16 @@ public class ArrayQueue<T>{
 
     /**
      * Returns the position of an element in the queue (1-based from front).
-     * Time Complexity: O(n)
+     * Time Complexity: O(n), O(1) expected in indexed mode
      *
      * @param element the element to search for
      * @return position from front (1-based), or -1 if not found
      */
     public int indexOf(T element) {
+        if (hashIndex != null) {
+            long sequence = hashIndex.oldestPosition(element);
+            return sequence < 0 ? -1 : (int) (sequence - dequeuedCount) + 1;
+        }
         if (isEmpty()) {
             return -1;
         }
@@ -299,6 +875,183 @@ public class ArrayQueue<T>{
         }
         return array;
     }
+
+    /**
+     * Returns an iterator over the elements from front to rear.
+     * Time Complexity: O(1) to create, O(n) to traverse
+     *
+     * @return the iterator
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+            private int index = front;
+            private int remaining = size;
+
+            @Override
+            public boolean hasNext() {
+                return remaining > 0;
+            }
+
+            @Override
+            public T next() {
+                if (remaining == 0) {
+                    throw new NoSuchElementException();
+                }
+                T element = queueArray[index];
+                index = index + 1 == capacity ? 0 : index + 1;
+                remaining--;
+                return element;
+            }
+        };
+    }
+
+    /**
+     * Returns a spliterator over the elements from front to rear.
+     * It splits first at the wrap-around point of the circular buffer, so each
+     * half is one contiguous array segment, and then by halves of a segment.
+     * Characteristics: ORDERED, SIZED, SUBSIZED, NONNULL.
+     * Time Complexity: O(1) to create and to split
+     *
+     * @return the spliterator
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return new SegmentSpliterator<>(queueArray, front, size);
+    }
+
+    /**
+     * Returns a sequential stream of the elements from front to rear.
+     *
+     * @return the stream
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Returns a parallel stream of the elements, split along the array segments.
+     *
+     * @return the parallel stream
+     */
+    public Stream<T> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
+    /**
+     * Searches for an element using all cores (common fork-join pool).
+     * Only worth it for large queues; in indexed mode this is the O(1) lookup.
+     * Time Complexity: O(n / cores)
+     *
+     * @param element the element to search for
+     * @return true if element exists, false otherwise
+     */
+    public boolean parallelContains(T element) {
+        if (hashIndex != null || element == null) {
+            return contains(element);
+        }
+        return parallelStream().anyMatch(element::equals);
+    }
+
+    /**
+     * Returns the position of an element (1-based from front) using all cores (common fork-join pool).
+     * Each contiguous segment is scanned as a parallel range of array indices, so no modulo per element.
+     * Only worth it for large queues; in indexed mode this is the O(1) lookup.
+     * Time Complexity: O(n / cores)
+     *
+     * @param element the element to search for
+     * @return position from front (1-based), or -1 if not found
+     */
+    public int parallelIndexOf(T element) {
+        if (hashIndex != null || element == null || isEmpty()) {
+            return indexOf(element);
+        }
+        T[] array = queueArray;
+        int firstPart = Math.min(size, capacity - front);
+
+        OptionalInt hit = IntStream.range(front, front + firstPart).parallel()
+                .filter(i -> element.equals(array[i]))
+                .findFirst();
+        if (hit.isPresent()) {
+            return hit.getAsInt() - front + 1;
+        }
+        hit = IntStream.range(0, size - firstPart).parallel()
+                .filter(i -> element.equals(array[i]))
+                .findFirst();
+        return hit.isPresent() ? firstPart + hit.getAsInt() + 1 : -1;
+    }
+
+    /**
+     * Spliterator over a run of a circular array: the run starts at a physical
+     * index and may wrap past the end of the array to index 0.
+     */
+    private static final class SegmentSpliterator<T> implements Spliterator<T> {
+        private final T[] array;
+        private int index;      // Physical index of the next element
+        private int remaining;  // Elements left in this run
+
+        SegmentSpliterator(T[] array, int index, int remaining) {
+            this.array = array;
+            this.index = index;
+            this.remaining = remaining;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (remaining == 0) {
+                return false;
+            }
+            T element = array[index];
+            index = index + 1 == array.length ? 0 : index + 1;
+            remaining--;
+            action.accept(element);
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            // At most two contiguous segments, no modulo per element
+            int firstPart = Math.min(remaining, array.length - index);
+            for (int i = index; i < index + firstPart; i++) {
+                action.accept(array[i]);
+            }
+            for (int i = 0; i < remaining - firstPart; i++) {
+                action.accept(array[i]);
+            }
+            index = (index + remaining) % array.length;
+            remaining = 0;
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            if (remaining < 2) {
+                return null;
+            }
+            int firstPart = array.length - index;
+            if (firstPart < remaining) {
+                // The run wraps: hand out the segment up to the end of the array
+                Spliterator<T> prefix = new SegmentSpliterator<>(array, index, firstPart);
+                index = 0;
+                remaining -= firstPart;
+                return prefix;
+            }
+            int half = remaining >>> 1;
+            Spliterator<T> prefix = new SegmentSpliterator<>(array, index, half);
+            index += half;
+            remaining -= half;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return remaining;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED | NONNULL;
+        }
+    }
 }
 
 
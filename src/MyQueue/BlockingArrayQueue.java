@@ -0,0 +1,468 @@
+package MyQueue;
+
+import Exeptions.QueueOverflowException;
+import Exeptions.QueueUnderflowException;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A bounded blocking Queue built on ArrayQueue.
+ * Producers wait in put while the queue is full and consumers wait in take
+ * while it is empty, instead of busy-spinning on isFull/isEmpty.
+ *
+ * All access goes through one ReentrantLock with two Conditions, notFull
+ * and notEmpty. Each enqueue signals exactly one waiting consumer and each
+ * dequeue exactly one waiting producer, so a single element never wakes
+ * the whole crowd of waiters. Waiting parks the thread through
+ * LockSupport rather than holding a monitor (no synchronized), which a
+ * virtual thread can do without pinning its carrier thread.
+ *
+ * Before parking, a blocked thread can first spin and then yield for a
+ * while (see WaitStrategy), watching a volatile element count without
+ * taking the lock. Short waits then end without the cost of a park and
+ * unpark; long waits still end up parked and use no CPU.
+ *
+ * @param <T> the type of elements in this queue
+ */
+public class BlockingArrayQueue<T> implements Queue<T> {
+
+    /**
+     * How a blocked thread waits before it parks: first spins busy-waiting
+     * rounds, then yields rounds of Thread.yield(), then parks until signalled.
+     */
+    public static final class WaitStrategy {
+        /** Park straight away; best when waits are long or threads outnumber cores. */
+        public static final WaitStrategy PARK = new WaitStrategy(0, 0);
+
+        private final int spins;
+        private final int yields;
+
+        private WaitStrategy(int spins, int yields) {
+            this.spins = spins;
+            this.yields = yields;
+        }
+
+        /**
+         * Returns a strategy that spins, then yields, then parks.
+         *
+         * @param spins  number of busy-wait rounds before yielding
+         * @param yields number of Thread.yield() rounds before parking
+         * @return the wait strategy
+         * @throws IllegalArgumentException if spins or yields is negative
+         */
+        public static WaitStrategy of(int spins, int yields) {
+            if (spins < 0 || yields < 0) {
+                throw new IllegalArgumentException("Spins and yields cannot be negative");
+            }
+            return new WaitStrategy(spins, yields);
+        }
+
+        /**
+         * Returns the number of busy-wait rounds before yielding.
+         *
+         * @return the spin count
+         */
+        public int getSpins() {
+            return spins;
+        }
+
+        /**
+         * Returns the number of Thread.yield() rounds before parking.
+         *
+         * @return the yield count
+         */
+        public int getYields() {
+            return yields;
+        }
+
+        @Override
+        public String toString() {
+            return "WaitStrategy(spins=" + spins + ", yields=" + yields + ")";
+        }
+    }
+
+    private final ArrayQueue<T> queue;    // Only touched while holding lock
+    private final int capacity;
+    private final WaitStrategy waitStrategy;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+    private volatile int count;            // Mirror of queue.size() for lock-free spinning
+
+    /**
+     * Constructs a queue with the specified capacity that parks straight away.
+     *
+     * @param capacity the maximum number of elements the queue can hold
+     * @throws IllegalArgumentException if capacity is less than 1
+     */
+    public BlockingArrayQueue(int capacity) {
+        this(capacity, WaitStrategy.PARK);
+    }
+
+    /**
+     * Constructs a queue with the specified capacity and wait strategy.
+     *
+     * @param capacity     the maximum number of elements the queue can hold
+     * @param waitStrategy how blocked threads wait before parking
+     * @throws IllegalArgumentException if capacity is less than 1 or waitStrategy is null
+     */
+    public BlockingArrayQueue(int capacity, WaitStrategy waitStrategy) {
+        if (waitStrategy == null) {
+            throw new IllegalArgumentException("Wait strategy cannot be null");
+        }
+        this.queue = new ArrayQueue<>(capacity);
+        this.capacity = capacity;
+        this.waitStrategy = waitStrategy;
+    }
+
+    /**
+     * Adds an element to the rear of the queue, waiting while the queue is full.
+     * Time Complexity: O(1) plus waiting
+     *
+     * @param element the element to add
+     * @throws IllegalArgumentException if element is null
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public void put(T element) throws InterruptedException {
+        checkNotNull(element);
+        spinWhileFull();
+        lock.lockInterruptibly();
+        try {
+            while (queue.isFull()) {
+                notFull.await();
+            }
+            insert(element);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Adds an element to the rear of the queue, waiting up to the timeout while the queue is full.
+     * Time Complexity: O(1) plus waiting
+     *
+     * @param element the element to add
+     * @param timeout how long to wait before giving up
+     * @param unit    the unit of timeout
+     * @return true if the element was added, false if the timeout elapsed first
+     * @throws IllegalArgumentException if element is null
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public boolean offer(T element, long timeout, TimeUnit unit) throws InterruptedException {
+        checkNotNull(element);
+        long nanos = unit.toNanos(timeout);
+        if (nanos > 0) {
+            spinWhileFull();
+        }
+        lock.lockInterruptibly();
+        try {
+            while (queue.isFull()) {
+                if (nanos <= 0) {
+                    return false;
+                }
+                nanos = notFull.awaitNanos(nanos);
+            }
+            insert(element);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Adds an element to the rear of the queue if there is room, without waiting.
+     * Time Complexity: O(1)
+     *
+     * @param element the element to add
+     * @return true if the element was added, false if the queue is full
+     * @throws IllegalArgumentException if element is null
+     */
+    public boolean offer(T element) {
+        checkNotNull(element);
+        lock.lock();
+        try {
+            if (queue.isFull()) {
+                return false;
+            }
+            insert(element);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Adds an element to the rear of the queue without waiting.
+     * Time Complexity: O(1)
+     *
+     * @param element the element to add
+     * @throws QueueOverflowException if the queue is full
+     * @throws IllegalArgumentException if element is null
+     */
+    public void enqueue(T element) {
+        if (!offer(element)) {
+            throw QueueOverflowException.of("Queue is full. Cannot enqueue element.");
+        }
+    }
+
+    /**
+     * Removes and returns the element at the front of the queue, waiting while the queue is empty.
+     * Time Complexity: O(1) plus waiting
+     *
+     * @return the element at the front of the queue
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public T take() throws InterruptedException {
+        spinWhileEmpty();
+        lock.lockInterruptibly();
+        try {
+            while (queue.isEmpty()) {
+                notEmpty.await();
+            }
+            return remove();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes and returns the element at the front of the queue, waiting up to the timeout while it is empty.
+     * Time Complexity: O(1) plus waiting
+     *
+     * @param timeout how long to wait before giving up
+     * @param unit    the unit of timeout
+     * @return the element at the front of the queue, or null if the timeout elapsed first
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public T poll(long timeout, TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        if (nanos > 0) {
+            spinWhileEmpty();
+        }
+        lock.lockInterruptibly();
+        try {
+            while (queue.isEmpty()) {
+                if (nanos <= 0) {
+                    return null;
+                }
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+            return remove();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes and returns the element at the front of the queue, if any, without waiting.
+     * Time Complexity: O(1)
+     *
+     * @return the element at the front of the queue, or null if the queue is empty
+     */
+    public T poll() {
+        lock.lock();
+        try {
+            return queue.isEmpty() ? null : remove();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes and returns the element at the front of the queue without waiting.
+     * Time Complexity: O(1)
+     *
+     * @return the element at the front of the queue
+     * @throws QueueUnderflowException if the queue is empty
+     */
+    public T dequeue() {
+        T element = poll();
+        if (element == null) {
+            throw QueueUnderflowException.of("Queue is empty. Cannot dequeue element.");
+        }
+        return element;
+    }
+
+    /**
+     * Returns the element at the front of the queue without removing it.
+     * Time Complexity: O(1)
+     *
+     * @return the element at the front of the queue
+     * @throws QueueUnderflowException if the queue is empty
+     */
+    public T peek() {
+        T element = peekOrNull();
+        if (element == null) {
+            throw QueueUnderflowException.of("Queue is empty. Cannot peek.");
+        }
+        return element;
+    }
+
+    /**
+     * Returns the element at the front of the queue without removing it, if any.
+     * Time Complexity: O(1)
+     *
+     * @return the element at the front of the queue, or null if the queue is empty
+     */
+    public T peekOrNull() {
+        lock.lock();
+        try {
+            return queue.peekOrNull();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Checks if the queue is empty.
+     * Time Complexity: O(1)
+     *
+     * @return true if the queue is empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    /**
+     * Checks if the queue is full.
+     * Time Complexity: O(1)
+     *
+     * @return true if the queue is full, false otherwise
+     */
+    public boolean isFull() {
+        return count == capacity;
+    }
+
+    /**
+     * Returns the current number of elements in the queue.
+     * Time Complexity: O(1)
+     *
+     * @return the number of elements
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Returns the capacity of the queue.
+     * Time Complexity: O(1)
+     *
+     * @return the capacity
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Returns how many more elements fit before put starts waiting.
+     * Time Complexity: O(1)
+     *
+     * @return the remaining capacity
+     */
+    public int remainingCapacity() {
+        return capacity - count;
+    }
+
+    /**
+     * Returns the wait strategy used by blocked threads.
+     *
+     * @return the wait strategy
+     */
+    public WaitStrategy getWaitStrategy() {
+        return waitStrategy;
+    }
+
+    /**
+     * Removes all elements from the queue and wakes up to that many waiting producers.
+     * Time Complexity: O(n)
+     */
+    public void clear() {
+        lock.lock();
+        try {
+            int removed = queue.size();
+            queue.clear();
+            count = 0;
+            for (int i = 0; i < removed && lock.hasWaiters(notFull); i++) {
+                notFull.signal();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns a string representation of the queue.
+     * Time Complexity: O(n)
+     *
+     * @return string representation
+     */
+    @Override
+    public String toString() {
+        lock.lock();
+        try {
+            return queue.toString();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Enqueues while holding the lock and wakes one waiting consumer.
+     *
+     * @param element the element to add (the queue is not full)
+     */
+    private void insert(T element) {
+        queue.enqueue(element);
+        count = queue.size();
+        notEmpty.signal();
+    }
+
+    /**
+     * Dequeues while holding the lock and wakes one waiting producer.
+     *
+     * @return the element at the front (the queue is not empty)
+     */
+    private T remove() {
+        T element = queue.dequeue();
+        count = queue.size();
+        notFull.signal();
+        return element;
+    }
+
+    /**
+     * Spins, then yields, while the queue looks full, as configured by the wait strategy.
+     */
+    private void spinWhileFull() {
+        for (int i = 0; i < waitStrategy.spins && count == capacity; i++) {
+            Thread.onSpinWait();
+        }
+        for (int i = 0; i < waitStrategy.yields && count == capacity; i++) {
+            Thread.yield();
+        }
+    }
+
+    /**
+     * Spins, then yields, while the queue looks empty, as configured by the wait strategy.
+     */
+    private void spinWhileEmpty() {
+        for (int i = 0; i < waitStrategy.spins && count == 0; i++) {
+            Thread.onSpinWait();
+        }
+        for (int i = 0; i < waitStrategy.yields && count == 0; i++) {
+            Thread.yield();
+        }
+    }
+
+    /**
+     * Rejects null, which poll uses to mean "empty".
+     *
+     * @param element the element to check
+     */
+    private void checkNotNull(T element) {
+        if (element == null) {
+            throw new IllegalArgumentException("Cannot enqueue null element");
+        }
+    }
+}
@@ -0,0 +1,439 @@
+package MyQueue;
+
+import Exeptions.QueueOverflowException;
+import Exeptions.QueueUnderflowException;
+import Exeptions.StackOverflowException;
+import Exeptions.StackUnderflowException;
+import MyStack.Stack;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A double-ended queue on a growable circular array, usable as a Stack and as a Queue.
+ * Elements can be added and removed at both ends in O(1). The array
+ * length is always a power of two, so wrapping an index is a bit mask
+ * instead of a modulo; the array doubles when full.
+ *
+ * Both views use the first element:
+ * - as a Stack, push = addFirst, pop = removes the first, peek = the first (top)
+ * - as a Queue, enqueue = addLast, dequeue = removes the first, peek = the first (front)
+ * so one structure can serve LIFO and FIFO stages without copying between
+ * an ArrayStack and an ArrayQueue. pop and the stack overflow case throw the
+ * Stack exceptions, dequeue and the queue overflow case the Queue ones.
+ * peek() is a single method serving both interfaces, so it throws
+ * QueueUnderflowException as the Queue contract requires; both underflow
+ * exceptions extend UnderflowException, which Stack callers can catch.
+ * Code that needs the exact Stack exceptions uses asStack(), a view whose
+ * peek() throws StackUnderflowException.
+ *
+ * Iteration runs first to last; the deque must not be modified meanwhile.
+ *
+ * @param <T> the type of elements in this deque
+ */
+public class CircularArrayDeque<T> implements Stack<T>, Queue<T>, Iterable<T> {
+    // Largest power-of-two array length
+    private static final int MAX_CAPACITY = 1 << 30;
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private Object[] elements;
+    private int mask;   // elements.length - 1
+    private int head;   // Index of the first element
+    private int size;
+
+    /**
+     * Constructs an empty deque with the default initial capacity (16).
+     */
+    public CircularArrayDeque() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty deque with room for at least the given number of elements before growing.
+     *
+     * @param initialCapacity the initial capacity, rounded up to a power of two
+     * @throws IllegalArgumentException if initialCapacity is less than 1 or above 2^30
+     */
+    public CircularArrayDeque(int initialCapacity) {
+        if (initialCapacity < 1 || initialCapacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Capacity must be between 1 and " + MAX_CAPACITY);
+        }
+        int capacity = Integer.highestOneBit(initialCapacity);
+        if (capacity < initialCapacity) {
+            capacity <<= 1;
+        }
+        this.elements = new Object[capacity];
+        this.mask = capacity - 1;
+        this.head = 0;
+        this.size = 0;
+    }
+
+    /**
+     * Adds an element at the front.
+     * Time Complexity: amortized O(1)
+     *
+     * @param element the element to add
+     * @throws QueueOverflowException if the deque has reached the maximum capacity
+     * @throws IllegalArgumentException if element is null
+     */
+    public void addFirst(T element) {
+        if (!insertFirst(element)) {
+            throw QueueOverflowException.of("Deque is full. Cannot add element.");
+        }
+    }
+
+    /**
+     * Adds an element at the back.
+     * Time Complexity: amortized O(1)
+     *
+     * @param element the element to add
+     * @throws QueueOverflowException if the deque has reached the maximum capacity
+     * @throws IllegalArgumentException if element is null
+     */
+    public void addLast(T element) {
+        if (!insertLast(element)) {
+            throw QueueOverflowException.of("Deque is full. Cannot add element.");
+        }
+    }
+
+    /**
+     * Removes and returns the first element, if any.
+     * Time Complexity: O(1)
+     *
+     * @return the first element, or null if the deque is empty
+     */
+    @SuppressWarnings("unchecked")
+    public T pollFirst() {
+        if (size == 0) {
+            return null;
+        }
+        T element = (T) elements[head];
+        elements[head] = null;  // Help garbage collection
+        head = (head + 1) & mask;
+        size--;
+        return element;
+    }
+
+    /**
+     * Removes and returns the last element, if any.
+     * Time Complexity: O(1)
+     *
+     * @return the last element, or null if the deque is empty
+     */
+    @SuppressWarnings("unchecked")
+    public T pollLast() {
+        if (size == 0) {
+            return null;
+        }
+        int last = (head + size - 1) & mask;
+        T element = (T) elements[last];
+        elements[last] = null;  // Help garbage collection
+        size--;
+        return element;
+    }
+
+    /**
+     * Returns the first element without removing it, if any.
+     * Time Complexity: O(1)
+     *
+     * @return the first element, or null if the deque is empty
+     */
+    @SuppressWarnings("unchecked")
+    public T peekFirst() {
+        return (T) elements[head];  // null when empty
+    }
+
+    /**
+     * Returns the last element without removing it, if any.
+     * Time Complexity: O(1)
+     *
+     * @return the last element, or null if the deque is empty
+     */
+    @SuppressWarnings("unchecked")
+    public T peekLast() {
+        return size == 0 ? null : (T) elements[(head + size - 1) & mask];
+    }
+
+    /**
+     * Pushes an element onto the top of the stack view (the front).
+     * Time Complexity: amortized O(1)
+     *
+     * @param element the element to push
+     * @throws StackOverflowException if the deque has reached the maximum capacity
+     * @throws IllegalArgumentException if element is null
+     */
+    public void push(T element) {
+        if (element == null) {
+            throw new IllegalArgumentException("Cannot push null element");
+        }
+        if (!insertFirst(element)) {
+            throw StackOverflowException.of("Stack is full. Cannot push element.");
+        }
+    }
+
+    /**
+     * Removes and returns the top of the stack view (the front).
+     * Time Complexity: O(1)
+     *
+     * @return the first element
+     * @throws StackUnderflowException if the deque is empty
+     */
+    public T pop() {
+        if (size == 0) {
+            throw StackUnderflowException.of("Stack is empty. Cannot pop element.");
+        }
+        return pollFirst();
+    }
+
+    /**
+     * Adds an element at the rear of the queue view (the back).
+     * Time Complexity: amortized O(1)
+     *
+     * @param element the element to add
+     * @throws QueueOverflowException if the deque has reached the maximum capacity
+     * @throws IllegalArgumentException if element is null
+     */
+    public void enqueue(T element) {
+        addLast(element);
+    }
+
+    /**
+     * Removes and returns the front of the queue view (the front).
+     * Time Complexity: O(1)
+     *
+     * @return the first element
+     * @throws QueueUnderflowException if the deque is empty
+     */
+    public T dequeue() {
+        if (size == 0) {
+            throw QueueUnderflowException.of("Queue is empty. Cannot dequeue element.");
+        }
+        return pollFirst();
+    }
+
+    /**
+     * Returns the first element (stack top, queue front) without removing it.
+     * Time Complexity: O(1)
+     *
+     * @return the first element
+     * @throws QueueUnderflowException if the deque is empty; as a Stack, catch it as
+     *                                 UnderflowException or use asStack()
+     */
+    public T peek() {
+        if (size == 0) {
+            throw QueueUnderflowException.of("Queue is empty. Cannot peek.");
+        }
+        return peekFirst();
+    }
+
+    /**
+     * Returns a Stack view of this deque that throws only the Stack exceptions:
+     * its peek() throws StackUnderflowException on an empty deque. The view
+     * shares the deque's elements; push/pop/peek act on the front as above.
+     * Time Complexity: O(1)
+     *
+     * @return the stack view
+     */
+    public Stack<T> asStack() {
+        return new Stack<T>() {
+            @Override
+            public void push(T element) {
+                CircularArrayDeque.this.push(element);
+            }
+
+            @Override
+            public T pop() {
+                return CircularArrayDeque.this.pop();
+            }
+
+            @Override
+            public T peek() {
+                if (size == 0) {
+                    throw StackUnderflowException.of("Stack is empty. Cannot peek.");
+                }
+                return peekFirst();
+            }
+
+            @Override
+            public boolean isEmpty() {
+                return size == 0;
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+
+            @Override
+            public void clear() {
+                CircularArrayDeque.this.clear();
+            }
+
+            @Override
+            public String toString() {
+                return CircularArrayDeque.this.toString();
+            }
+        };
+    }
+
+    /**
+     * Checks if the deque is empty.
+     * Time Complexity: O(1)
+     *
+     * @return true if the deque is empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the current number of elements in the deque.
+     * Time Complexity: O(1)
+     *
+     * @return the number of elements
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the current array length; the deque grows past it by doubling.
+     * Time Complexity: O(1)
+     *
+     * @return the capacity
+     */
+    public int getCapacity() {
+        return elements.length;
+    }
+
+    /**
+     * Removes all elements from the deque.
+     * Time Complexity: O(n) - to help garbage collection
+     */
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            elements[(head + i) & mask] = null;
+        }
+        head = 0;
+        size = 0;
+    }
+
+    /**
+     * Returns an iterator over the elements from first to last.
+     * Time Complexity: O(1) to create, O(n) to traverse
+     *
+     * @return the iterator
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+            private int offset = 0;
+
+            @Override
+            public boolean hasNext() {
+                return offset < size;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public T next() {
+                if (offset >= size) {
+                    throw new NoSuchElementException();
+                }
+                return (T) elements[(head + offset++) & mask];
+            }
+        };
+    }
+
+    /**
+     * Converts the deque to an array, from first to last.
+     * Time Complexity: O(n), copied with at most two bulk copies
+     *
+     * @return array containing all elements in order
+     */
+    public Object[] toArray() {
+        Object[] array = new Object[size];
+        int firstPart = Math.min(size, elements.length - head);
+        System.arraycopy(elements, head, array, 0, firstPart);
+        System.arraycopy(elements, 0, array, firstPart, size - firstPart);
+        return array;
+    }
+
+    /**
+     * Returns a string representation of the deque.
+     * Shows elements from first to last.
+     * Time Complexity: O(n)
+     *
+     * @return string representation
+     */
+    @Override
+    public String toString() {
+        if (isEmpty()) {
+            return "Deque: [] (empty)";
+        }
+        StringBuilder sb = new StringBuilder("Deque (first to last): [");
+        for (int i = 0; i < size; i++) {
+            sb.append(elements[(head + i) & mask]);
+            if (i < size - 1) {
+                sb.append(", ");
+            }
+        }
+        sb.append("]");
+        return sb.toString();
+    }
+
+    /**
+     * Stores an element before the first one, growing the array if needed.
+     *
+     * @return false if the deque is at the maximum capacity
+     */
+    private boolean insertFirst(T element) {
+        if (element == null) {
+            throw new IllegalArgumentException("Cannot add null element");
+        }
+        if (size == elements.length && !grow()) {
+            return false;
+        }
+        head = (head - 1) & mask;
+        elements[head] = element;
+        size++;
+        return true;
+    }
+
+    /**
+     * Stores an element after the last one, growing the array if needed.
+     *
+     * @return false if the deque is at the maximum capacity
+     */
+    private boolean insertLast(T element) {
+        if (element == null) {
+            throw new IllegalArgumentException("Cannot add null element");
+        }
+        if (size == elements.length && !grow()) {
+            return false;
+        }
+        elements[(head + size) & mask] = element;
+        size++;
+        return true;
+    }
+
+    /**
+     * Doubles the array and unrolls the contents so the first element is at index 0.
+     * Time Complexity: O(n)
+     *
+     * @return false if the array is already at the maximum capacity
+     */
+    private boolean grow() {
+        if (elements.length == MAX_CAPACITY) {
+            return false;
+        }
+        Object[] grown = new Object[elements.length << 1];
+        int firstPart = elements.length - head;  // The array is full here
+        System.arraycopy(elements, head, grown, 0, firstPart);
+        System.arraycopy(elements, 0, grown, firstPart, head);
+        elements = grown;
+        mask = grown.length - 1;
+        head = 0;
+        return true;
+    }
+}
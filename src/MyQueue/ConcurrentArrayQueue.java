@@ -0,0 +1,268 @@
+package MyQueue;
+
+import Exeptions.QueueOverflowException;
+import Exeptions.QueueUnderflowException;
+import common.PaddedAtomicLong;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A lock-free bounded Queue for multiple producers and multiple consumers.
+ * Uses the same circular array as ArrayQueue, but every slot carries a
+ * sequence number and the head/tail counters are advanced with CAS, so
+ * producers and consumers never block each other.
+ *
+ * A slot at index i is free for the producer holding ticket t when its
+ * sequence equals t, and holds an element for the consumer holding ticket t
+ * when its sequence equals t + 1. After consuming, the sequence is moved one
+ * full lap ahead (t + capacity) so the slot can be reused.
+ *
+ * The capacity must be at least 2: with one slot, "holds the element for
+ * consumer t" (t + 1) is also "free for producer t + 1", so a second
+ * enqueue would overwrite the first element.
+ *
+ * @param <T> the type of elements in this queue
+ */
+public class ConcurrentArrayQueue<T> implements Queue<T> {
+    private final Object[] queueArray;
+    private final AtomicLongArray sequences;  // Per-slot sequence numbers
+    private final PaddedAtomicLong head;      // Next ticket to dequeue
+    private final PaddedAtomicLong tail;      // Next ticket to enqueue
+    private final int capacity;
+
+    /**
+     * Constructs a queue with the specified capacity.
+     *
+     * @param capacity the maximum number of elements the queue can hold
+     * @throws IllegalArgumentException if capacity is less than 2
+     */
+    public ConcurrentArrayQueue(int capacity) {
+        if (capacity < 2) {
+            throw new IllegalArgumentException("Capacity must be at least 2");
+        }
+        this.capacity = capacity;
+        this.queueArray = new Object[capacity];
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+        this.head = new PaddedAtomicLong();
+        this.tail = new PaddedAtomicLong();
+    }
+
+    /**
+     * Adds an element to the rear of the queue.
+     * Time Complexity: O(1), lock-free
+     *
+     * @param element the element to add
+     * @throws QueueOverflowException if the queue is full
+     * @throws IllegalArgumentException if element is null
+     */
+    public void enqueue(T element) {
+        if (!offer(element)) {
+            throw QueueOverflowException.of("Queue is full. Cannot enqueue element.");
+        }
+    }
+
+    /**
+     * Adds an element to the rear of the queue if there is room.
+     * Time Complexity: O(1), lock-free
+     *
+     * @param element the element to add
+     * @return true if the element was added, false if the queue is full
+     * @throws IllegalArgumentException if element is null
+     */
+    public boolean offer(T element) {
+        if (element == null) {
+            throw new IllegalArgumentException("Cannot enqueue null element");
+        }
+
+        long ticket = tail.get();
+        while (true) {
+            int index = (int) (ticket % capacity);
+            long sequence = sequences.get(index);
+            long difference = sequence - ticket;
+
+            if (difference == 0) {
+                // Slot is free for this ticket: try to claim it
+                if (tail.compareAndSet(ticket, ticket + 1)) {
+                    queueArray[index] = element;
+                    sequences.set(index, ticket + 1);  // Publish the element
+                    return true;
+                }
+                ticket = tail.get();
+            } else if (difference < 0) {
+                // Slot still holds an element from the previous lap: queue is full
+                return false;
+            } else {
+                // Another producer claimed this ticket: reload
+                ticket = tail.get();
+            }
+        }
+    }
+
+    /**
+     * Removes and returns the element at the front of the queue.
+     * Time Complexity: O(1), lock-free
+     *
+     * @return the element at the front of the queue
+     * @throws QueueUnderflowException if the queue is empty
+     */
+    public T dequeue() {
+        T element = poll();
+        if (element == null) {
+            throw QueueUnderflowException.of("Queue is empty. Cannot dequeue element.");
+        }
+        return element;
+    }
+
+    /**
+     * Removes and returns the element at the front of the queue, if any.
+     * Time Complexity: O(1), lock-free
+     *
+     * @return the element at the front of the queue, or null if the queue is empty
+     */
+    @SuppressWarnings("unchecked")
+    public T poll() {
+        long ticket = head.get();
+        while (true) {
+            int index = (int) (ticket % capacity);
+            long sequence = sequences.get(index);
+            long difference = sequence - (ticket + 1);
+
+            if (difference == 0) {
+                // Slot holds the element for this ticket: try to claim it
+                if (head.compareAndSet(ticket, ticket + 1)) {
+                    T element = (T) queueArray[index];
+                    queueArray[index] = null;  // Help garbage collection
+                    sequences.set(index, ticket + capacity);  // Free slot for next lap
+                    return element;
+                }
+                ticket = head.get();
+            } else if (difference < 0) {
+                // Producer has not published this slot yet: queue is empty
+                return null;
+            } else {
+                // Another consumer claimed this ticket: reload
+                ticket = head.get();
+            }
+        }
+    }
+
+    /**
+     * Returns the element at the front of the queue without removing it.
+     * Under concurrent dequeues the returned element may already be gone
+     * by the time the caller looks at it.
+     * Time Complexity: O(1)
+     *
+     * @return the element at the front of the queue
+     * @throws QueueUnderflowException if the queue is empty
+     */
+    @SuppressWarnings("unchecked")
+    public T peek() {
+        while (true) {
+            long ticket = head.get();
+            int index = (int) (ticket % capacity);
+            long sequence = sequences.get(index);
+
+            if (sequence - (ticket + 1) < 0) {
+                throw QueueUnderflowException.of("Queue is empty. Cannot peek.");
+            }
+            T element = (T) queueArray[index];
+            // Only trust the read if no consumer took the slot meanwhile
+            if (element != null && head.get() == ticket) {
+                return element;
+            }
+        }
+    }
+
+    /**
+     * Checks if the queue is empty.
+     * Time Complexity: O(1)
+     *
+     * @return true if the queue is empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Checks if the queue is full.
+     * Time Complexity: O(1)
+     *
+     * @return true if the queue is full, false otherwise
+     */
+    public boolean isFull() {
+        return size() == capacity;
+    }
+
+    /**
+     * Returns the current number of elements in the queue.
+     * This is a snapshot: concurrent operations may change it immediately.
+     * Time Complexity: O(1)
+     *
+     * @return the number of elements
+     */
+    public int size() {
+        while (true) {
+            long currentHead = head.get();
+            long currentTail = tail.get();
+            // Retry until head did not move while tail was read
+            if (head.get() == currentHead) {
+                long size = currentTail - currentHead;
+                if (size < 0) {
+                    return 0;
+                }
+                return (int) Math.min(size, capacity);
+            }
+        }
+    }
+
+    /**
+     * Removes all elements present when the call starts.
+     * Time Complexity: O(n)
+     */
+    public void clear() {
+        while (poll() != null) {
+            // Drain
+        }
+    }
+
+    /**
+     * Returns the maximum capacity of the queue.
+     * Time Complexity: O(1)
+     *
+     * @return the capacity
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Returns a string representation of the queue.
+     * Only meaningful when no other thread is modifying the queue.
+     * Time Complexity: O(n)
+     *
+     * @return string representation
+     */
+    @Override
+    public String toString() {
+        int size = size();
+        if (size == 0) {
+            return "Queue: [] (empty)";
+        }
+
+        StringBuilder sb = new StringBuilder("Queue (front to rear): [");
+        long ticket = head.get();
+
+        for (int count = 0; count < size; count++) {
+            sb.append(queueArray[(int) ((ticket + count) % capacity)]);
+            if (count < size - 1) {
+                sb.append(" <- ");
+            }
+        }
+
+        sb.append("] | Size: ").append(size).append("/").append(capacity);
+        return sb.toString();
+    }
+}
@@ -0,0 +1,254 @@
+package MyQueue;
+
+import Exeptions.QueueUnderflowException;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock-free unbounded Queue implementation using a linked list
+ * (Michael-Scott queue). Same front/rear structure as LinkedListQueue,
+ * but both ends are advanced with CAS: producers only contend on the
+ * tail and consumers only contend on the head.
+ *
+ * The list always starts with a dummy node; the first real element is
+ * head.next. A lagging tail (one node behind) is helped forward by
+ * whichever thread notices it.
+ *
+ * @param <T> the type of elements in this queue
+ */
+public class ConcurrentLinkedListQueue<T> implements Queue<T> {
+
+    /**
+     * Linked node with a CAS-able next reference.
+     * common.Node cannot be used here because its next field is not atomic.
+     */
+    private static final class Node<T> {
+        @SuppressWarnings("rawtypes")
+        private static final AtomicReferenceFieldUpdater<Node, Node> NEXT =
+                AtomicReferenceFieldUpdater.newUpdater(Node.class, Node.class, "next");
+
+        volatile T data;
+        volatile Node<T> next;
+
+        Node(T data) {
+            this.data = data;
+        }
+
+        boolean casNext(Node<T> expected, Node<T> update) {
+            return NEXT.compareAndSet(this, expected, update);
+        }
+    }
+
+    private final AtomicReference<Node<T>> head;  // Dummy node; head.next is the front
+    private final AtomicReference<Node<T>> tail;  // Last node, or one behind it
+    private final LongAdder size = new LongAdder();  // Striped: no single hot counter
+
+    /**
+     * Constructs an empty queue.
+     */
+    public ConcurrentLinkedListQueue() {
+        Node<T> dummy = new Node<>(null);
+        this.head = new AtomicReference<>(dummy);
+        this.tail = new AtomicReference<>(dummy);
+    }
+
+    /**
+     * Adds an element to the rear of the queue.
+     * Time Complexity: O(1), lock-free
+     *
+     * @param element the element to add
+     * @throws IllegalArgumentException if element is null
+     */
+    public void enqueue(T element) {
+        if (element == null) {
+            throw new IllegalArgumentException("Cannot enqueue null element");
+        }
+        Node<T> newNode = new Node<>(element);
+
+        while (true) {
+            Node<T> last = tail.get();
+            Node<T> next = last.next;
+            if (last != tail.get()) {
+                continue;  // Tail moved while we read it
+            }
+            if (next == null) {
+                // Tail is the real last node: try to link after it
+                if (last.casNext(null, newNode)) {
+                    tail.compareAndSet(last, newNode);  // Failure is fine: someone helped
+                    size.increment();
+                    return;
+                }
+            } else {
+                // Tail is lagging: help move it forward
+                tail.compareAndSet(last, next);
+            }
+        }
+    }
+
+    /**
+     * Adds an element to the rear of the queue.
+     * The queue is unbounded, so this always succeeds.
+     * Time Complexity: O(1), lock-free
+     *
+     * @param element the element to add
+     * @return true
+     * @throws IllegalArgumentException if element is null
+     */
+    public boolean offer(T element) {
+        enqueue(element);
+        return true;
+    }
+
+    /**
+     * Removes and returns the element at the front of the queue.
+     * Time Complexity: O(1), lock-free
+     *
+     * @return the element at the front of the queue
+     * @throws QueueUnderflowException if the queue is empty
+     */
+    public T dequeue() {
+        T element = poll();
+        if (element == null) {
+            throw QueueUnderflowException.of("Queue is empty. Cannot dequeue element.");
+        }
+        return element;
+    }
+
+    /**
+     * Removes and returns the element at the front of the queue, if any.
+     * Time Complexity: O(1), lock-free
+     *
+     * @return the element at the front of the queue, or null if the queue is empty
+     */
+    public T poll() {
+        while (true) {
+            Node<T> first = head.get();
+            Node<T> last = tail.get();
+            Node<T> next = first.next;
+            if (first != head.get()) {
+                continue;  // Head moved while we read it
+            }
+            if (next == null) {
+                return null;  // Only the dummy is left
+            }
+            if (first == last) {
+                // Tail is lagging behind a node being linked: help it
+                tail.compareAndSet(last, next);
+                continue;
+            }
+            T data = next.data;
+            if (head.compareAndSet(first, next)) {
+                // next becomes the new dummy: drop its element for garbage collection
+                next.data = null;
+                size.decrement();
+                return data;
+            }
+        }
+    }
+
+    /**
+     * Returns the element at the front of the queue without removing it.
+     * Time Complexity: O(1)
+     *
+     * @return the element at the front of the queue
+     * @throws QueueUnderflowException if the queue is empty
+     */
+    public T peek() {
+        while (true) {
+            Node<T> first = head.get();
+            Node<T> next = first.next;
+            if (next == null) {
+                throw QueueUnderflowException.of("Queue is empty. Cannot peek.");
+            }
+            T data = next.data;
+            // data is null only if a consumer already turned next into the dummy
+            if (data != null) {
+                return data;
+            }
+        }
+    }
+
+    /**
+     * Checks if the queue is empty.
+     * Time Complexity: O(1)
+     *
+     * @return true if the queue is empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return head.get().next == null;
+    }
+
+    /**
+     * Returns the current number of elements in the queue.
+     * Under concurrent enqueues and dequeues this is an estimate.
+     * Time Complexity: O(number of counter stripes)
+     *
+     * @return the number of elements
+     */
+    public int size() {
+        return (int) Math.max(0, size.sum());
+    }
+
+    /**
+     * Removes all elements present when the call starts.
+     * Time Complexity: O(n)
+     */
+    public void clear() {
+        while (poll() != null) {
+            // Drain
+        }
+    }
+
+    /**
+     * Searches for an element in the queue.
+     * Weakly consistent: concurrent enqueues and dequeues may or may not be seen.
+     * Time Complexity: O(n)
+     *
+     * @param element the element to search for
+     * @return true if element exists, false otherwise
+     */
+    public boolean contains(T element) {
+        Node<T> current = head.get().next;
+
+        while (current != null) {
+            T data = current.data;
+            if (data != null && data.equals(element)) {
+                return true;
+            }
+            current = current.next;
+        }
+        return false;
+    }
+
+    /**
+     * Returns a string representation of the queue.
+     * Shows elements from front to rear.
+     * Time Complexity: O(n)
+     *
+     * @return string representation
+     */
+    @Override
+    public String toString() {
+        Node<T> current = head.get().next;
+        if (current == null) {
+            return "Queue: [] (empty)";
+        }
+
+        StringBuilder sb = new StringBuilder("Queue (front to rear): [");
+
+        while (current != null) {
+            T data = current.data;
+            if (data != null) {
+                sb.append(data);
+                if (current.next != null) {
+                    sb.append(" <- ");
+                }
+            }
+            current = current.next;
+        }
+        sb.append("]");
+        return sb.toString();
+    }
+}
@@ -0,0 +1,442 @@
+package MyQueue;
+
+import Exeptions.QueueOverflowException;
+import Exeptions.QueueUnderflowException;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.function.ToLongFunction;
+
+/**
+ * A priority Queue backed by a d-ary min-heap in a flat array.
+ * dequeue always returns the smallest element; equal elements come out in
+ * no particular order. Dynamic size: the array doubles when it is full.
+ *
+ * Node i has its children at d*i+1 .. d*i+d, so a wider heap is shallower
+ * (log_d n levels instead of log_2 n) and the d children it compares while
+ * sifting down sit next to each other in memory. With d = 4 (the default)
+ * the heap is half as deep as a binary heap and a node's children usually
+ * share one cache line, which pays off once the heap no longer fits in cache.
+ *
+ * Ordering comes either from a Comparator, or from a primitive long key
+ * (see withLongKey): the key is extracted once on enqueue and kept in a
+ * parallel long[] array, so sifting compares plain longs instead of
+ * calling a Comparator on boxed values.
+ *
+ * @param <T> the type of elements in this queue
+ */
+public class DaryHeapPriorityQueue<T> implements Queue<T> {
+    // Largest array size the JVM can reliably allocate
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+    private static final int DEFAULT_ARITY = 4;
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private final int arity;
+    private final Comparator<? super T> comparator;     // null in long-key mode
+    private final ToLongFunction<? super T> keyFunction;  // null in comparator mode
+    private Object[] heap;
+    private long[] keys;  // keys[i] is the key of heap[i]; null in comparator mode
+    private int size;
+
+    /**
+     * Constructs an empty 4-ary heap ordered by a comparator.
+     *
+     * @param comparator the ordering; the smallest element is dequeued first
+     * @throws IllegalArgumentException if comparator is null
+     */
+    public DaryHeapPriorityQueue(Comparator<? super T> comparator) {
+        this(DEFAULT_ARITY, DEFAULT_CAPACITY, comparator);
+    }
+
+    /**
+     * Constructs an empty d-ary heap ordered by a comparator.
+     *
+     * @param arity           the number of children per node, from 2 to 64
+     * @param initialCapacity the initial array length
+     * @param comparator      the ordering; the smallest element is dequeued first
+     * @throws IllegalArgumentException if arity or initialCapacity is out of range, or comparator is null
+     */
+    public DaryHeapPriorityQueue(int arity, int initialCapacity, Comparator<? super T> comparator) {
+        this(arity, initialCapacity, comparator, null);
+    }
+
+    /**
+     * Constructs an empty heap in comparator mode or long-key mode (exactly one of the two is given).
+     *
+     * @param arity           the number of children per node
+     * @param initialCapacity the initial array length
+     * @param comparator      the ordering, or null in long-key mode
+     * @param keyFunction     the key extractor, or null in comparator mode
+     */
+    private DaryHeapPriorityQueue(int arity, int initialCapacity,
+                                  Comparator<? super T> comparator, ToLongFunction<? super T> keyFunction) {
+        if (comparator == null && keyFunction == null) {
+            throw new IllegalArgumentException("Comparator cannot be null");
+        }
+        if (arity < 2 || arity > 64) {
+            throw new IllegalArgumentException("Arity must be between 2 and 64");
+        }
+        if (initialCapacity < 1 || initialCapacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Capacity must be at least 1");
+        }
+        this.arity = arity;
+        this.comparator = comparator;
+        this.keyFunction = keyFunction;
+        this.heap = new Object[initialCapacity];
+        this.keys = keyFunction != null ? new long[initialCapacity] : null;
+        this.size = 0;
+    }
+
+    /**
+     * Creates an empty 4-ary heap ordered by a primitive long key (smallest key first).
+     *
+     * @param keyFunction extracts the key; called once per enqueue
+     * @param <T>         the type of elements
+     * @return the queue
+     * @throws IllegalArgumentException if keyFunction is null
+     */
+    public static <T> DaryHeapPriorityQueue<T> withLongKey(ToLongFunction<? super T> keyFunction) {
+        return withLongKey(DEFAULT_ARITY, DEFAULT_CAPACITY, keyFunction);
+    }
+
+    /**
+     * Creates an empty d-ary heap ordered by a primitive long key (smallest key first).
+     *
+     * @param arity           the number of children per node, from 2 to 64
+     * @param initialCapacity the initial array length
+     * @param keyFunction     extracts the key; called once per enqueue
+     * @param <T>             the type of elements
+     * @return the queue
+     * @throws IllegalArgumentException if arity or initialCapacity is out of range, or keyFunction is null
+     */
+    public static <T> DaryHeapPriorityQueue<T> withLongKey(int arity, int initialCapacity,
+                                                           ToLongFunction<? super T> keyFunction) {
+        if (keyFunction == null) {
+            throw new IllegalArgumentException("Key function cannot be null");
+        }
+        return new DaryHeapPriorityQueue<>(arity, initialCapacity, null, keyFunction);
+    }
+
+    /**
+     * Adds an element to the queue.
+     * Time Complexity: O(log_d n), amortized over array growth
+     *
+     * @param element the element to add
+     * @throws QueueOverflowException if the queue already holds the maximum array size
+     * @throws IllegalArgumentException if element is null
+     */
+    public void enqueue(T element) {
+        if (element == null) {
+            throw new IllegalArgumentException("Cannot enqueue null element");
+        }
+        if (size == heap.length) {
+            grow();
+        }
+        if (keys != null) {
+            siftUpKeyed(size, element, keyFunction.applyAsLong(element));
+        } else {
+            siftUpComparator(size, element);
+        }
+        size++;
+    }
+
+    /**
+     * Adds an element to the queue.
+     * The queue is unbounded, so this always succeeds.
+     * Time Complexity: O(log_d n)
+     *
+     * @param element the element to add
+     * @return true
+     * @throws IllegalArgumentException if element is null
+     */
+    public boolean offer(T element) {
+        enqueue(element);
+        return true;
+    }
+
+    /**
+     * Removes and returns the smallest element.
+     * Time Complexity: O(d log_d n)
+     *
+     * @return the smallest element
+     * @throws QueueUnderflowException if the queue is empty
+     */
+    public T dequeue() {
+        if (isEmpty()) {
+            throw QueueUnderflowException.of("Queue is empty. Cannot dequeue element.");
+        }
+        return removeRoot();
+    }
+
+    /**
+     * Removes and returns the smallest element, if any.
+     * Time Complexity: O(d log_d n)
+     *
+     * @return the smallest element, or null if the queue is empty
+     */
+    public T poll() {
+        if (isEmpty()) {
+            return null;
+        }
+        return removeRoot();
+    }
+
+    /**
+     * Returns the smallest element without removing it.
+     * Time Complexity: O(1)
+     *
+     * @return the smallest element
+     * @throws QueueUnderflowException if the queue is empty
+     */
+    @SuppressWarnings("unchecked")
+    public T peek() {
+        if (isEmpty()) {
+            throw QueueUnderflowException.of("Queue is empty. Cannot peek.");
+        }
+        return (T) heap[0];
+    }
+
+    /**
+     * Returns the smallest element without removing it, if any.
+     * Time Complexity: O(1)
+     *
+     * @return the smallest element, or null if the queue is empty
+     */
+    @SuppressWarnings("unchecked")
+    public T peekOrNull() {
+        return (T) heap[0];  // Slots at and beyond size are always null
+    }
+
+    /**
+     * Returns the key of the smallest element. Long-key mode only.
+     * Time Complexity: O(1)
+     *
+     * @return the smallest key
+     * @throws QueueUnderflowException if the queue is empty
+     * @throws IllegalStateException if the queue is ordered by a comparator
+     */
+    public long peekKey() {
+        if (keys == null) {
+            throw new IllegalStateException("Queue is ordered by a comparator, not a long key");
+        }
+        if (isEmpty()) {
+            throw QueueUnderflowException.of("Queue is empty. Cannot peek.");
+        }
+        return keys[0];
+    }
+
+    /**
+     * Checks if the queue is empty.
+     * Time Complexity: O(1)
+     *
+     * @return true if the queue is empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the current number of elements in the queue.
+     * Time Complexity: O(1)
+     *
+     * @return the number of elements
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of children per heap node.
+     * Time Complexity: O(1)
+     *
+     * @return the arity d
+     */
+    public int getArity() {
+        return arity;
+    }
+
+    /**
+     * Checks if the queue is ordered by a primitive long key rather than a comparator.
+     * Time Complexity: O(1)
+     *
+     * @return true in long-key mode, false in comparator mode
+     */
+    public boolean hasLongKey() {
+        return keys != null;
+    }
+
+    /**
+     * Removes all elements from the queue.
+     * Time Complexity: O(n) - to help garbage collection
+     */
+    public void clear() {
+        Arrays.fill(heap, 0, size, null);
+        size = 0;
+    }
+
+    /**
+     * Returns a string representation of the queue.
+     * Elements are shown in heap (array) order, not sorted; the first one is the smallest.
+     * Time Complexity: O(n)
+     *
+     * @return string representation
+     */
+    @Override
+    public String toString() {
+        if (isEmpty()) {
+            return "PriorityQueue: [] (empty)";
+        }
+        StringBuilder sb = new StringBuilder("PriorityQueue (heap order): [");
+        for (int i = 0; i < size; i++) {
+            sb.append(heap[i]);
+            if (i < size - 1) {
+                sb.append(", ");
+            }
+        }
+        sb.append("]");
+        return sb.toString();
+    }
+
+    /**
+     * Removes the root and refills it with the last element; the caller has checked isEmpty.
+     *
+     * @return the element that was at the root
+     */
+    @SuppressWarnings("unchecked")
+    private T removeRoot() {
+        T root = (T) heap[0];
+        size--;
+        T last = (T) heap[size];
+        heap[size] = null;  // Help garbage collection
+
+        if (size > 0) {
+            if (keys != null) {
+                siftDownKeyed(0, last, keys[size]);
+            } else {
+                siftDownComparator(0, last);
+            }
+        }
+        return root;
+    }
+
+    /**
+     * Moves a hole at index up until the key fits, then fills it.
+     * Parents are shifted down into the hole instead of swapped.
+     *
+     * @param index   the hole
+     * @param element the element to place
+     * @param key     its key
+     */
+    private void siftUpKeyed(int index, T element, long key) {
+        while (index > 0) {
+            int parent = (index - 1) / arity;
+            if (key >= keys[parent]) {
+                break;
+            }
+            heap[index] = heap[parent];
+            keys[index] = keys[parent];
+            index = parent;
+        }
+        heap[index] = element;
+        keys[index] = key;
+    }
+
+    /**
+     * Moves a hole at index up until the element fits, then fills it.
+     *
+     * @param index   the hole
+     * @param element the element to place
+     */
+    @SuppressWarnings("unchecked")
+    private void siftUpComparator(int index, T element) {
+        while (index > 0) {
+            int parent = (index - 1) / arity;
+            if (comparator.compare(element, (T) heap[parent]) >= 0) {
+                break;
+            }
+            heap[index] = heap[parent];
+            index = parent;
+        }
+        heap[index] = element;
+    }
+
+    /**
+     * Moves a hole at index down, following the smallest child, until the key fits, then fills it.
+     *
+     * @param index   the hole
+     * @param element the element to place
+     * @param key     its key
+     */
+    private void siftDownKeyed(int index, T element, long key) {
+        while (true) {
+            long first = (long) arity * index + 1;
+            if (first >= size) {
+                break;
+            }
+            int end = (int) Math.min(first + arity, size);
+            int best = (int) first;
+            long bestKey = keys[best];
+            for (int child = best + 1; child < end; child++) {
+                if (keys[child] < bestKey) {
+                    best = child;
+                    bestKey = keys[child];
+                }
+            }
+            if (key <= bestKey) {
+                break;
+            }
+            heap[index] = heap[best];
+            keys[index] = bestKey;
+            index = best;
+        }
+        heap[index] = element;
+        keys[index] = key;
+    }
+
+    /**
+     * Moves a hole at index down, following the smallest child, until the element fits, then fills it.
+     *
+     * @param index   the hole
+     * @param element the element to place
+     */
+    @SuppressWarnings("unchecked")
+    private void siftDownComparator(int index, T element) {
+        while (true) {
+            long first = (long) arity * index + 1;
+            if (first >= size) {
+                break;
+            }
+            int end = (int) Math.min(first + arity, size);
+            int best = (int) first;
+            T bestElement = (T) heap[best];
+            for (int child = best + 1; child < end; child++) {
+                if (comparator.compare((T) heap[child], bestElement) < 0) {
+                    best = child;
+                    bestElement = (T) heap[child];
+                }
+            }
+            if (comparator.compare(element, bestElement) <= 0) {
+                break;
+            }
+            heap[index] = bestElement;
+            index = best;
+        }
+        heap[index] = element;
+    }
+
+    /**
+     * Doubles the arrays, capped at the maximum array size.
+     * Time Complexity: O(n)
+     */
+    private void grow() {
+        int capacity = heap.length;
+        if (capacity == MAX_CAPACITY) {
+            throw QueueOverflowException.of("Queue is full. Cannot enqueue element.");
+        }
+        int newCapacity = capacity > MAX_CAPACITY / 2 ? MAX_CAPACITY : capacity * 2;
+        heap = Arrays.copyOf(heap, newCapacity);
+        if (keys != null) {
+            keys = Arrays.copyOf(keys, newCapacity);
+        }
+    }
+}
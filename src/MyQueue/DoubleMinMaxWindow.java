@@ -0,0 +1,174 @@
+package MyQueue;
+
+import Exeptions.QueueUnderflowException;
+
+/**
+ * Minimum and maximum of the last N values of a stream of doubles.
+ *
+ * Two monotonic deques replace a scan of the window: the min deque holds
+ * the values that can still become the minimum, in increasing order
+ * (a value is dropped as soon as a smaller, newer one arrives, since it
+ * can never be the minimum again), and the max deque likewise in
+ * decreasing order. The front of each deque is the answer, and values
+ * leave from the front when they fall out of the window. Each value is
+ * added and removed at most once per deque, so add() is amortized O(1)
+ * and getMin()/getMax() are O(1).
+ *
+ * Both deques are circular arrays of windowSize slots, allocated once.
+ * Values are ordered by Double.compare, so NaN counts as larger than
+ * positive infinity and -0.0 as smaller than 0.0.
+ */
+public class DoubleMinMaxWindow {
+    private final int windowSize;
+    private long count;  // Values added since the last clear
+
+    // Monotonic deques: values and the sequence number at which each was added
+    private final double[] minValues;
+    private final long[] minSequences;
+    private int minHead;
+    private int minSize;
+
+    private final double[] maxValues;
+    private final long[] maxSequences;
+    private int maxHead;
+    private int maxSize;
+
+    /**
+     * Constructs an empty window.
+     *
+     * @param windowSize the number of most recent values to cover
+     * @throws IllegalArgumentException if windowSize is less than 1
+     */
+    public DoubleMinMaxWindow(int windowSize) {
+        if (windowSize < 1) {
+            throw new IllegalArgumentException("Window size must be at least 1");
+        }
+        this.windowSize = windowSize;
+        this.minValues = new double[windowSize];
+        this.minSequences = new long[windowSize];
+        this.maxValues = new double[windowSize];
+        this.maxSequences = new long[windowSize];
+    }
+
+    /**
+     * Adds a value; once more than windowSize values were added, the oldest leaves the window.
+     * Time Complexity: amortized O(1)
+     *
+     * @param value the new value
+     */
+    public void add(double value) {
+        long sequence = count++;
+        long expired = sequence - windowSize;  // Sequences at or below this are outside the window
+
+        // Min deque: older values >= the new one can never be the minimum again
+        while (minSize > 0 && Double.compare(minValues[slot(minHead, minSize - 1)], value) >= 0) {
+            minSize--;
+        }
+        if (minSize > 0 && minSequences[minHead] <= expired) {
+            minHead = slot(minHead, 1);
+            minSize--;
+        }
+        int minTail = slot(minHead, minSize++);
+        minValues[minTail] = value;
+        minSequences[minTail] = sequence;
+
+        // Max deque: older values <= the new one can never be the maximum again
+        while (maxSize > 0 && Double.compare(maxValues[slot(maxHead, maxSize - 1)], value) <= 0) {
+            maxSize--;
+        }
+        if (maxSize > 0 && maxSequences[maxHead] <= expired) {
+            maxHead = slot(maxHead, 1);
+            maxSize--;
+        }
+        int maxTail = slot(maxHead, maxSize++);
+        maxValues[maxTail] = value;
+        maxSequences[maxTail] = sequence;
+    }
+
+    /**
+     * Returns the smallest value in the window.
+     * Time Complexity: O(1)
+     *
+     * @return the minimum
+     * @throws QueueUnderflowException if no value was added yet
+     */
+    public double getMin() {
+        if (isEmpty()) {
+            throw QueueUnderflowException.of("Window is empty. No minimum.");
+        }
+        return minValues[minHead];
+    }
+
+    /**
+     * Returns the largest value in the window.
+     * Time Complexity: O(1)
+     *
+     * @return the maximum
+     * @throws QueueUnderflowException if no value was added yet
+     */
+    public double getMax() {
+        if (isEmpty()) {
+            throw QueueUnderflowException.of("Window is empty. No maximum.");
+        }
+        return maxValues[maxHead];
+    }
+
+    /**
+     * Checks if the window is empty.
+     *
+     * @return true if no value was added since construction or the last clear
+     */
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    /**
+     * Returns the number of values currently in the window.
+     *
+     * @return the number of values, at most windowSize
+     */
+    public int size() {
+        return (int) Math.min(count, windowSize);
+    }
+
+    /**
+     * Returns the number of most recent values the window covers.
+     *
+     * @return the window size
+     */
+    public int getWindowSize() {
+        return windowSize;
+    }
+
+    /**
+     * Removes all values from the window.
+     * Time Complexity: O(1)
+     */
+    public void clear() {
+        count = 0;
+        minHead = minSize = 0;
+        maxHead = maxSize = 0;
+    }
+
+    /**
+     * Returns a string representation of the window.
+     *
+     * @return string representation with the size, minimum and maximum
+     */
+    @Override
+    public String toString() {
+        if (isEmpty()) {
+            return "DoubleMinMaxWindow: [] (empty)";
+        }
+        return "DoubleMinMaxWindow: size = " + size() + "/" + windowSize
+                + ", min = " + getMin() + ", max = " + getMax();
+    }
+
+    /**
+     * Returns the ring slot offset positions after head.
+     */
+    private int slot(int head, int offset) {
+        int index = head + offset;
+        return index >= windowSize ? index - windowSize : index;
+    }
+}
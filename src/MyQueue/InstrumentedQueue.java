@@ -0,0 +1,211 @@
+package MyQueue;
+
+import Exeptions.QueueOverflowException;
+import Exeptions.QueueUnderflowException;
+import Exeptions.UnderflowException;
+import common.OverflowPolicy;
+import common.StructureMetrics;
+
+/**
+ * A Queue decorator that records StructureMetrics for any Queue.
+ * Counts enqueues, dequeues, peeks, overflows and underflows, tracks the
+ * high-water mark and occupancy, and measures how long each element waits
+ * between enqueue and dequeue (its sojourn time) by keeping an enqueue
+ * timestamp beside it.
+ *
+ * Instrumentation is off unless the JVM runs with -Dcommon.metrics=true.
+ * When off, every method is a plain call to the wrapped queue.
+ *
+ * Not thread-safe even when the wrapped queue is: the timestamps are kept
+ * in a separate, unsynchronized queue. Sojourn times assume FIFO order,
+ * so they are only meaningful for FIFO queues. Elements already in the
+ * wrapped queue when it was wrapped have no timestamp and are not timed.
+ *
+ * An enqueue that leaves the size unchanged was absorbed by an overflow
+ * policy (see OverflowPolicy) and is recorded as an overflow. If the wrapped
+ * ArrayQueue drops its front (DROP_OLDEST), the front's timestamp goes with
+ * it; otherwise the new element was dropped and gets no timestamp.
+ *
+ * @param <T> the type of elements in this queue
+ */
+public class InstrumentedQueue<T> implements Queue<T> {
+
+    private final Queue<T> delegate;
+    private final String name;
+    private final StructureMetrics metrics;  // null when disabled
+    private StructureMetrics idleMetrics;    // All-zero metrics, created by getMetrics() when disabled
+    private final LongArrayQueue enqueueTimes;  // Enqueue time of each timed element; null when disabled
+    private int untimed;  // Elements at the front enqueued before wrapping
+    private final boolean dropsOldest;  // The delegate overwrites its front when full
+
+    /**
+     * Wraps a queue.
+     *
+     * @param delegate the queue to instrument; use it only through this wrapper from now on
+     * @param name     the name reported in JMX and JFR
+     * @throws IllegalArgumentException if delegate or name is null
+     */
+    public InstrumentedQueue(Queue<T> delegate, String name) {
+        if (delegate == null) {
+            throw new IllegalArgumentException("Queue cannot be null");
+        }
+        this.delegate = delegate;
+        if (name == null) {
+            throw new IllegalArgumentException("Name cannot be null");
+        }
+        this.name = name;
+        // When disabled, wrapping allocates no metrics (and no histograms) at all
+        this.metrics = StructureMetrics.ENABLED ? new StructureMetrics(name) : null;
+        this.enqueueTimes = StructureMetrics.ENABLED ? new LongArrayQueue(16, true) : null;
+        this.untimed = delegate.size();
+        this.dropsOldest = delegate instanceof ArrayQueue
+                && ((ArrayQueue<T>) delegate).getOverflowPolicy() == OverflowPolicy.DROP_OLDEST;
+    }
+
+    /**
+     * Adds an element to the rear of the queue.
+     * Time Complexity: same as the wrapped queue
+     *
+     * @param element the element to add
+     * @throws QueueOverflowException if the wrapped queue is full
+     * @throws IllegalArgumentException if element is null
+     */
+    public void enqueue(T element) {
+        if (!StructureMetrics.ENABLED) {
+            delegate.enqueue(element);
+            return;
+        }
+        int sizeBefore = delegate.size();
+        try {
+            delegate.enqueue(element);
+        } catch (QueueOverflowException e) {
+            metrics.recordOverflow(sizeBefore);
+            throw e;
+        }
+        if (delegate.size() == sizeBefore) {
+            // Full, and the overflow policy dropped an element instead of throwing
+            metrics.recordOverflow(sizeBefore);
+            if (!dropsOldest) {
+                return;  // The new element was dropped: nothing to time
+            }
+            if (untimed > 0) {
+                untimed--;
+            } else {
+                enqueueTimes.dequeue();  // The front's timestamp leaves with it
+            }
+        }
+        enqueueTimes.enqueue(System.nanoTime());
+        metrics.recordInsert(delegate.size());
+    }
+
+    /**
+     * Removes and returns the element at the front of the queue.
+     * Time Complexity: same as the wrapped queue
+     *
+     * @return the element at the front of the queue
+     * @throws QueueUnderflowException if the queue is empty
+     */
+    public T dequeue() {
+        if (!StructureMetrics.ENABLED) {
+            return delegate.dequeue();
+        }
+        T element;
+        try {
+            element = delegate.dequeue();
+        } catch (UnderflowException e) {  // Either underflow type: some queues are also stacks
+            metrics.recordUnderflow();
+            throw e;
+        }
+        long sojourn;
+        if (untimed > 0) {
+            untimed--;
+            sojourn = -1;
+        } else {
+            sojourn = System.nanoTime() - enqueueTimes.dequeue();
+        }
+        metrics.recordRemove(delegate.size(), sojourn);
+        return element;
+    }
+
+    /**
+     * Returns the element at the front of the queue without removing it.
+     * Time Complexity: same as the wrapped queue
+     *
+     * @return the element at the front of the queue
+     * @throws QueueUnderflowException if the queue is empty
+     */
+    public T peek() {
+        if (!StructureMetrics.ENABLED) {
+            return delegate.peek();
+        }
+        try {
+            T element = delegate.peek();
+            metrics.recordPeek();
+            return element;
+        } catch (UnderflowException e) {  // Either underflow type: some queues are also stacks
+            metrics.recordUnderflow();
+            throw e;
+        }
+    }
+
+    /**
+     * Checks if the queue is empty.
+     * Time Complexity: same as the wrapped queue
+     *
+     * @return true if the queue is empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return delegate.isEmpty();
+    }
+
+    /**
+     * Returns the current number of elements in the queue.
+     * Time Complexity: same as the wrapped queue
+     *
+     * @return the number of elements
+     */
+    public int size() {
+        return delegate.size();
+    }
+
+    /**
+     * Removes all elements from the queue.
+     * Time Complexity: same as the wrapped queue
+     */
+    public void clear() {
+        delegate.clear();
+        untimed = 0;
+        if (StructureMetrics.ENABLED) {
+            enqueueTimes.clear();
+            metrics.recordClear();
+        }
+    }
+
+    /**
+     * Returns the metrics recorded for this queue (all zero when instrumentation is off).
+     * When off, the all-zero metrics are only created by the first call.
+     *
+     * @return the metrics
+     */
+    public StructureMetrics getMetrics() {
+        if (metrics != null) {
+            return metrics;
+        }
+        synchronized (this) {
+            if (idleMetrics == null) {
+                idleMetrics = new StructureMetrics(name);
+            }
+            return idleMetrics;
+        }
+    }
+
+    /**
+     * Returns the wrapped queue's string representation.
+     *
+     * @return string representation
+     */
+    @Override
+    public String toString() {
+        return delegate.toString();
+    }
+}
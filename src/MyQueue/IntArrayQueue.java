@@ -0,0 +1,320 @@
+package MyQueue;
+
+import Exeptions.QueueOverflowException;
+import Exeptions.QueueUnderflowException;
+import common.PrimitiveSearch;
+
+/**
+ * A Queue of primitive ints using a circular int array.
+ * Same behavior as ArrayQueue (including elastic mode), but values are
+ * stored unboxed: no Integer allocation per enqueue and 4 bytes per element
+ * instead of a reference plus an Integer object.
+ */
+public class IntArrayQueue {
+
+    // Largest array size the JVM can reliably allocate
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+    private int[] queueArray;
+    private int front;      // Index of the first element
+    private int rear;       // Index of the last element
+    private int size;       // Current number of elements
+    private int capacity;   // Maximum capacity (current array length in elastic mode)
+    private final boolean elastic;   // Grow/shrink instead of overflowing
+    private final int minCapacity;   // Elastic mode never shrinks below this
+
+    /**
+     * Constructs a queue with the specified capacity.
+     *
+     * @param capacity the maximum number of elements the queue can hold
+     * @throws IllegalArgumentException if capacity is less than 1 or above the maximum array size
+     */
+    public IntArrayQueue(int capacity) {
+        this(capacity, false);
+    }
+
+    /**
+     * Constructs a queue with the specified capacity, optionally elastic.
+     *
+     * @param capacity the initial (and, in elastic mode, minimum) capacity
+     * @param elastic  true to grow and shrink the array instead of overflowing
+     * @throws IllegalArgumentException if capacity is less than 1 or above the maximum array size
+     */
+    public IntArrayQueue(int capacity, boolean elastic) {
+        if (capacity < 1 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Capacity must be between 1 and " + MAX_CAPACITY);
+        }
+        this.capacity = capacity;
+        this.minCapacity = capacity;
+        this.elastic = elastic;
+        this.queueArray = new int[capacity];
+        this.front = 0;
+        this.rear = -1;
+        this.size = 0;
+    }
+
+    /**
+     * Adds a value to the rear of the queue.
+     * Time Complexity: O(1), amortized O(1) in elastic mode
+     *
+     * @param value the value to add
+     * @throws QueueOverflowException if the queue is full
+     */
+    public void enqueue(int value) {
+        if (isFull()) {
+            throw QueueOverflowException.of("Queue is full. Cannot enqueue element.");
+        }
+        if (size == capacity) {
+            grow();  // Only reachable in elastic mode
+        }
+
+        // Circular increment: move rear to next position
+        rear = (rear + 1) % capacity;
+        queueArray[rear] = value;
+        size++;
+    }
+
+    /**
+     * Removes and returns the value at the front of the queue.
+     * Time Complexity: O(1)
+     *
+     * @return the value at the front of the queue
+     * @throws QueueUnderflowException if the queue is empty
+     */
+    public int dequeue() {
+        if (isEmpty()) {
+            throw QueueUnderflowException.of("Queue is empty. Cannot dequeue element.");
+        }
+
+        int value = queueArray[front];
+
+        // Circular increment: move front to next position
+        front = (front + 1) % capacity;
+        size--;
+
+        if (isEmpty()) {
+            front = 0;
+            rear = -1;
+        }
+
+        shrinkIfSparse();
+        return value;
+    }
+
+    /**
+     * Returns the value at the front of the queue without removing it.
+     * Time Complexity: O(1)
+     *
+     * @return the value at the front of the queue
+     * @throws QueueUnderflowException if the queue is empty
+     */
+    public int peek() {
+        if (isEmpty()) {
+            throw QueueUnderflowException.of("Queue is empty. Cannot peek.");
+        }
+        return queueArray[front];
+    }
+
+    /**
+     * Returns the value at the rear of the queue without removing it.
+     * Time Complexity: O(1)
+     *
+     * @return the value at the rear of the queue
+     * @throws QueueUnderflowException if the queue is empty
+     */
+    public int peekRear() {
+        if (isEmpty()) {
+            throw QueueUnderflowException.of("Queue is empty. Cannot peek rear.");
+        }
+        return queueArray[rear];
+    }
+
+    /**
+     * Checks if the queue is empty.
+     * Time Complexity: O(1)
+     *
+     * @return true if the queue is empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Checks if the queue is full.
+     * An elastic queue is only full once it reaches the maximum array size.
+     * Time Complexity: O(1)
+     *
+     * @return true if the queue is full, false otherwise
+     */
+    public boolean isFull() {
+        if (elastic) {
+            return size == MAX_CAPACITY;
+        }
+        return size == capacity;
+    }
+
+    /**
+     * Returns the current number of elements in the queue.
+     * Time Complexity: O(1)
+     *
+     * @return the number of elements
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the capacity of the queue.
+     * In elastic mode this is the current array length, which changes as the queue grows and shrinks.
+     * Time Complexity: O(1)
+     *
+     * @return the capacity
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Checks if the queue grows and shrinks instead of overflowing.
+     * Time Complexity: O(1)
+     *
+     * @return true if the queue is elastic, false otherwise
+     */
+    public boolean isElastic() {
+        return elastic;
+    }
+
+    /**
+     * Removes all elements from the queue.
+     * An elastic queue also returns to its initial capacity.
+     * Time Complexity: O(1) - primitives need no clearing for garbage collection
+     */
+    public void clear() {
+        front = 0;
+        rear = -1;
+        size = 0;
+
+        if (elastic && capacity > minCapacity) {
+            queueArray = new int[minCapacity];
+            capacity = minCapacity;
+        }
+    }
+
+    /**
+     * Searches for a value in the queue.
+     * Time Complexity: O(n)
+     *
+     * @param value the value to search for
+     * @return true if value exists, false otherwise
+     */
+    public boolean contains(int value) {
+        return indexOf(value) != -1;
+    }
+
+    /**
+     * Returns the position of a value in the queue (1-based from front).
+     * Searches the one or two contiguous segments of the circular array with
+     * PrimitiveSearch, which uses SIMD compares when the Vector API is available.
+     * Time Complexity: O(n)
+     *
+     * @param value the value to search for
+     * @return position from front (1-based), or -1 if not found
+     */
+    public int indexOf(int value) {
+        // Segment 1: front..end of array, segment 2: wrapped part from index 0
+        int firstPart = Math.min(size, capacity - front);
+        int index = PrimitiveSearch.indexOf(queueArray, front, front + firstPart, value);
+        if (index >= 0) {
+            return index - front + 1;
+        }
+        index = PrimitiveSearch.indexOf(queueArray, 0, size - firstPart, value);
+        return index >= 0 ? firstPart + index + 1 : -1;
+    }
+
+    /**
+     * Returns a string representation of the queue.
+     * Shows elements from front to rear.
+     * Time Complexity: O(n)
+     *
+     * @return string representation
+     */
+    @Override
+    public String toString() {
+        if (isEmpty()) {
+            return "Queue: [] (empty)";
+        }
+
+        StringBuilder sb = new StringBuilder("Queue (front to rear): [");
+        int count = 0;
+        int index = front;
+
+        while (count < size) {
+            sb.append(queueArray[index]);
+            if (count < size - 1) {
+                sb.append(" <- ");
+            }
+            index = (index + 1) % capacity;
+            count++;
+        }
+
+        sb.append("] | Size: ").append(size).append("/").append(capacity);
+        return sb.toString();
+    }
+
+    /**
+     * Converts the queue to an array in order.
+     * Time Complexity: O(n)
+     *
+     * @return array containing all values from front to rear
+     */
+    public int[] toArray() {
+        int[] array = new int[size];
+        if (size > 0) {
+            int firstPart = Math.min(size, capacity - front);
+            System.arraycopy(queueArray, front, array, 0, firstPart);
+            System.arraycopy(queueArray, 0, array, firstPart, size - firstPart);
+        }
+        return array;
+    }
+
+    /**
+     * Doubles the array, capped at the maximum array size.
+     * Time Complexity: O(n)
+     */
+    private void grow() {
+        int newCapacity = capacity > MAX_CAPACITY / 2 ? MAX_CAPACITY : capacity * 2;
+        resize(newCapacity);
+    }
+
+    /**
+     * Halves the array when an elastic queue is at most a quarter full.
+     * Time Complexity: O(n) when it shrinks, O(1) otherwise
+     */
+    private void shrinkIfSparse() {
+        if (elastic && capacity > minCapacity && size <= capacity / 4) {
+            resize(Math.max(minCapacity, capacity / 2));
+        }
+    }
+
+    /**
+     * Moves the values into a new array of the given length, unrolling the
+     * circular contents so the front ends up at index 0.
+     * Time Complexity: O(n)
+     *
+     * @param newCapacity the new array length (at least size)
+     */
+    private void resize(int newCapacity) {
+        int[] newArray = new int[newCapacity];
+
+        if (size > 0) {
+            int firstPart = Math.min(size, capacity - front);
+            System.arraycopy(queueArray, front, newArray, 0, firstPart);
+            System.arraycopy(queueArray, 0, newArray, firstPart, size - firstPart);
+        }
+
+        queueArray = newArray;
+        capacity = newCapacity;
+        front = 0;
+        rear = size - 1;
+    }
+}
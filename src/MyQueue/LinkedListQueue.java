@@ -1,20 +1,39 @@
 package MyQueue;
 
 import Exeptions.QueueUnderflowException;
+import common.CheckpointReader;
+import common.CheckpointWriter;
+import common.ElementSerializer;
+import common.HashIndex;
 import common.Node;
 
+import java.io.IOException;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
 /**
  * A generic Queue implementation using Linked List.
  * Follows FIFO (First In First Out) principle.
  * Dynamic size - no capacity limit.
+ * Iteration and streams run front to rear.
  *
  * @param <T> the type of elements in this queue
  */
-public class LinkedListQueue<T> {
+public class LinkedListQueue<T> implements Queue<T>, Iterable<T> {
     private Node<T> front;  // Points to the first element (for dequeue)
     private Node<T> rear;   // Points to the last element (for enqueue)
     private int size;
 
+    // Indexed mode: element -> enqueue sequence numbers; null when disabled
+    private HashIndex<T> hashIndex;
+    private long dequeuedCount;  // Dequeues since the index was built
+
     /**
      * Constructs an empty queue.
      */
@@ -46,6 +65,9 @@ public class LinkedListQueue<T> {
             rear.setNext(newNode);
             rear = newNode;
         }
+        if (hashIndex != null) {
+            hashIndex.add(element, dequeuedCount + size);
+        }
         size++;
     }
 
@@ -58,7 +80,35 @@ public class LinkedListQueue<T> {
      */
     public T dequeue() {
         if (isEmpty()) {
-            throw new QueueUnderflowException("Queue is empty. Cannot dequeue element.");
+            throw QueueUnderflowException.of("Queue is empty. Cannot dequeue element.");
+        }
+        return poll();
+    }
+
+    /**
+     * Adds an element to the rear of the queue.
+     * The queue is unbounded, so this always succeeds.
+     * Time Complexity: O(1)
+     *
+     * @param element the element to add
+     * @return true
+     * @throws IllegalArgumentException if element is null
+     */
+    public boolean offer(T element) {
+        enqueue(element);
+        return true;
+    }
+
+    /**
+     * Removes and returns the element at the front of the queue, if any.
+     * Same as dequeue, but an empty queue is reported by returning null.
+     * Time Complexity: O(1)
+     *
+     * @return the element at the front of the queue, or null if the queue is empty
+     */
+    public T poll() {
+        if (isEmpty()) {
+            return null;
         }
 
         T data = front.getData();
@@ -68,6 +118,10 @@ public class LinkedListQueue<T> {
         if (front == null) {
             rear = null;
         }
+        if (hashIndex != null) {
+            hashIndex.removeOldest(data);
+            dequeuedCount++;
+        }
 
         size--;
         return data;
@@ -82,11 +136,21 @@ public class LinkedListQueue<T> {
      */
     public T peek() {
         if (isEmpty()) {
-            throw new QueueUnderflowException("Queue is empty. Cannot peek.");
+            throw QueueUnderflowException.of("Queue is empty. Cannot peek.");
         }
         return front.getData();
     }
 
+    /**
+     * Returns the element at the front of the queue without removing it, if any.
+     * Time Complexity: O(1)
+     *
+     * @return the element at the front of the queue, or null if the queue is empty
+     */
+    public T peekOrNull() {
+        return isEmpty() ? null : front.getData();
+    }
+
     /**
      * Returns the element at the rear of the queue without removing it.
      * Time Complexity: O(1)
@@ -96,7 +160,7 @@ public class LinkedListQueue<T> {
      */
     public T peekRear() {
         if (isEmpty()) {
-            throw new QueueUnderflowException("Queue is empty. Cannot peek rear.");
+            throw QueueUnderflowException.of("Queue is empty. Cannot peek rear.");
         }
         return rear.getData();
     }
@@ -129,17 +193,67 @@ public class LinkedListQueue<T> {
         front = null;
         rear = null;
         size = 0;
+        if (hashIndex != null) {
+            hashIndex.clear();
+            dequeuedCount = 0;
+        }
+    }
+
+    /**
+     * Turns on indexed mode: contains and indexOf become O(1) hash lookups,
+     * at the cost of a HashMap update on every enqueue and dequeue.
+     * Does nothing if the queue is already indexed.
+     * Time Complexity: O(n) to index the current elements
+     */
+    public void enableIndex() {
+        if (hashIndex == null) {
+            hashIndex = new HashIndex<>();
+            rebuildIndex();
+        }
+    }
+
+    /**
+     * Turns off indexed mode and releases the index; contains and indexOf scan again.
+     * Time Complexity: O(1)
+     */
+    public void disableIndex() {
+        hashIndex = null;
+    }
+
+    /**
+     * Checks if indexed mode is on.
+     * Time Complexity: O(1)
+     *
+     * @return true if contains and indexOf use the hash index
+     */
+    public boolean isIndexed() {
+        return hashIndex != null;
+    }
+
+    /**
+     * Re-indexes every element from front to rear, numbering them from 0.
+     */
+    private void rebuildIndex() {
+        hashIndex.clear();
+        dequeuedCount = 0;
+        long sequence = 0;
+        for (Node<T> current = front; current != null; current = current.getNext()) {
+            hashIndex.add(current.getData(), sequence++);
+        }
     }
 
     /**
      * Searches for an element in the queue.
      * Returns true if found, false otherwise.
-     * Time Complexity: O(n)
+     * Time Complexity: O(n), O(1) expected in indexed mode
      *
      * @param element the element to search for
      * @return true if element exists, false otherwise
      */
     public boolean contains(T element) {
+        if (hashIndex != null) {
+            return hashIndex.contains(element);
+        }
         Node<T> current = front;
 
         while (current != null) {
@@ -153,12 +267,16 @@ public class LinkedListQueue<T> {
 
     /**
      * Returns the position of an element in the queue (1-based from front).
-     * Time Complexity: O(n)
+     * Time Complexity: O(n), O(1) expected in indexed mode
      *
      * @param element the element to search for
      * @return position from front (1-based), or -1 if not found
      */
     public int indexOf(T element) {
+        if (hashIndex != null) {
+            long sequence = hashIndex.oldestPosition(element);
+            return sequence < 0 ? -1 : (int) (sequence - dequeuedCount) + 1;
+        }
         Node<T> current = front;
         int position = 1;
 
@@ -217,8 +335,107 @@ public class LinkedListQueue<T> {
         return array;
     }
 
+    /**
+     * Returns an iterator over the elements from front to rear.
+     * Time Complexity: O(1) to create, O(n) to traverse
+     *
+     * @return the iterator
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+            private Node<T> current = front;
+
+            @Override
+            public boolean hasNext() {
+                return current != null;
+            }
+
+            @Override
+            public T next() {
+                if (current == null) {
+                    throw new NoSuchElementException();
+                }
+                T data = current.getData();
+                current = current.getNext();
+                return data;
+            }
+        };
+    }
+
+    /**
+     * Returns a spliterator over the elements from front to rear.
+     * A linked list cannot be split without walking it, so splits hand out
+     * batches of nodes copied into arrays (the JDK's iterator spliterator).
+     * Characteristics: ORDERED, SIZED, NONNULL.
+     *
+     * @return the spliterator
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return Spliterators.spliterator(iterator(), size, Spliterator.ORDERED | Spliterator.NONNULL);
+    }
+
+    /**
+     * Returns a sequential stream of the elements from front to rear.
+     *
+     * @return the stream
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Returns a parallel stream of the elements.
+     *
+     * @return the parallel stream
+     */
+    public Stream<T> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
+    /**
+     * Writes the queue to a channel as a binary checkpoint (see CheckpointWriter), front to rear.
+     * Streams through a fixed-size direct buffer; the queue is not copied.
+     * Time Complexity: O(n)
+     *
+     * @param channel    the destination channel (not closed by this method)
+     * @param serializer encodes each element
+     * @throws IOException if writing to the channel fails
+     */
+    public void writeTo(WritableByteChannel channel, ElementSerializer<T> serializer) throws IOException {
+        CheckpointWriter<T> writer = new CheckpointWriter<>(channel, serializer, CheckpointWriter.QUEUE, size);
+        for (Node<T> current = front; current != null; current = current.getNext()) {
+            writer.write(current.getData());
+        }
+        writer.finish();
+    }
+
+    /**
+     * Replaces the contents of the queue with a checkpoint written by writeTo.
+     * If reading fails the queue is left empty.
+     * Time Complexity: O(n)
+     *
+     * @param channel    the source channel (not closed by this method)
+     * @param serializer decodes each element
+     * @throws IOException if reading fails or the channel does not hold a queue checkpoint
+     */
+    public void readFrom(ReadableByteChannel channel, ElementSerializer<T> serializer) throws IOException {
+        CheckpointReader<T> reader = new CheckpointReader<>(channel, serializer, CheckpointWriter.QUEUE);
+        clear();
+        try {
+            while (reader.hasNext()) {
+                enqueue(reader.next());
+            }
+        } catch (IOException | RuntimeException e) {
+            clear();
+            throw e;
+        }
+    }
+
     /**
      * Reverses the queue in place.
+     * In indexed mode the index is rebuilt for the new order.
      * Time Complexity: O(n)
      */
     public void reverse() {
@@ -242,6 +459,10 @@ public class LinkedListQueue<T> {
         }
 
         front = prev;
+
+        if (hashIndex != null) {
+            rebuildIndex();
+        }
     }
 
     /**
@@ -0,0 +1,145 @@
+package MyQueue;
+
+import Exeptions.QueueUnderflowException;
+import MyStack.LongAggregateStack;
+
+import java.util.Objects;
+import java.util.function.LongBinaryOperator;
+
+/**
+ * A FIFO queue of primitive longs that keeps a running aggregate.
+ * Same two-stack design as AggregateQueue, built on LongAggregateStack,
+ * so enqueue/dequeue/aggregate are amortized O(1) and nothing is boxed.
+ *
+ * The combine function must be associative, e.g. Long::sum, Math::min, Math::max.
+ */
+public class LongAggregateQueue {
+    private final LongBinaryOperator combine;
+    private final LongAggregateStack front;  // Top is the oldest value
+    private final LongAggregateStack back;   // Top is the newest value
+
+    /**
+     * Constructs an empty queue.
+     *
+     * @param combine associative function that combines (earlier, later) into one aggregate
+     * @throws NullPointerException if combine is null
+     */
+    public LongAggregateQueue(LongBinaryOperator combine) {
+        this.combine = Objects.requireNonNull(combine, "combine");
+        // The front stack holds values newest at the bottom, so it must combine in reverse
+        this.front = new LongAggregateStack((below, above) -> combine.applyAsLong(above, below));
+        this.back = new LongAggregateStack(combine);
+    }
+
+    /**
+     * Adds a value to the rear of the queue.
+     * Time Complexity: amortized O(1) plus one combine call
+     *
+     * @param value the value to add
+     */
+    public void enqueue(long value) {
+        back.push(value);
+    }
+
+    /**
+     * Removes and returns the value at the front of the queue.
+     * Time Complexity: amortized O(1)
+     *
+     * @return the value at the front of the queue
+     * @throws QueueUnderflowException if the queue is empty
+     */
+    public long dequeue() {
+        if (isEmpty()) {
+            throw QueueUnderflowException.of("Queue is empty. Cannot dequeue element.");
+        }
+        refillFront();
+        return front.pop();
+    }
+
+    /**
+     * Returns the value at the front of the queue without removing it.
+     * Time Complexity: amortized O(1)
+     *
+     * @return the value at the front of the queue
+     * @throws QueueUnderflowException if the queue is empty
+     */
+    public long peek() {
+        if (isEmpty()) {
+            throw QueueUnderflowException.of("Queue is empty. Cannot peek.");
+        }
+        refillFront();
+        return front.peek();
+    }
+
+    /**
+     * Returns all values combined, from front to rear.
+     * Time Complexity: O(1)
+     *
+     * @return the aggregate of the whole queue
+     * @throws QueueUnderflowException if the queue is empty
+     */
+    public long aggregate() {
+        if (isEmpty()) {
+            throw QueueUnderflowException.of("Queue is empty. No aggregate.");
+        }
+        if (front.isEmpty()) {
+            return back.aggregate();
+        }
+        if (back.isEmpty()) {
+            return front.aggregate();
+        }
+        return combine.applyAsLong(front.aggregate(), back.aggregate());
+    }
+
+    /**
+     * Checks if the queue is empty.
+     *
+     * @return true if the queue is empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return front.isEmpty() && back.isEmpty();
+    }
+
+    /**
+     * Returns the current number of elements in the queue.
+     *
+     * @return the number of elements
+     */
+    public int size() {
+        return front.size() + back.size();
+    }
+
+    /**
+     * Removes all elements from the queue.
+     * Time Complexity: O(1)
+     */
+    public void clear() {
+        front.clear();
+        back.clear();
+    }
+
+    /**
+     * Returns a string representation of the queue.
+     *
+     * @return string representation with the size and the aggregate
+     */
+    @Override
+    public String toString() {
+        if (isEmpty()) {
+            return "LongAggregateQueue: [] (empty)";
+        }
+        return "LongAggregateQueue: size = " + size() + ", aggregate = " + aggregate();
+    }
+
+    /**
+     * Moves every value from the back stack to the front stack once the front runs empty.
+     * Time Complexity: O(n) for that call, O(1) amortized per value
+     */
+    private void refillFront() {
+        if (front.isEmpty()) {
+            while (!back.isEmpty()) {
+                front.push(back.pop());
+            }
+        }
+    }
+}
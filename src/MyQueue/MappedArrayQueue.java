@@ -0,0 +1,431 @@
+package MyQueue;
+
+import Exeptions.QueueOverflowException;
+import Exeptions.QueueUnderflowException;
+import common.ElementSerializer;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A durable circular Queue stored in a memory-mapped file.
+ * Same circular-array design and API as ArrayQueue, but the slots live in
+ * a file, so the contents survive a restart or a crash of the process.
+ *
+ * File layout:
+ * - a 4 KB header page: magic, version, capacity, maximum record size,
+ *   and two monotonically increasing counters, head (elements ever dequeued)
+ *   and tail (elements ever enqueued)
+ * - capacity fixed-size slots, each a 4-byte record length followed by
+ *   up to maxRecordSize bytes written by the ElementSerializer
+ *
+ * front = head % capacity, rear = (tail - 1) % capacity and size = tail - head.
+ * Each counter is updated with a single 8-byte store after the slot itself
+ * is written, so a crash at any point leaves either the old or the new
+ * state, never a half-written one.
+ *
+ * Writes go to the OS page cache, which already survives a process crash.
+ * The SyncPolicy decides how often pages are also forced to the storage
+ * device, to survive an OS crash or power loss.
+ *
+ * Not thread-safe, like ArrayQueue.
+ *
+ * @param <T> the type of elements in this queue
+ */
+public class MappedArrayQueue<T> implements Queue<T>, Closeable {
+
+    /**
+     * When the mapped pages are forced to the storage device.
+     */
+    public enum SyncPolicy {
+        /** Never forced explicitly; the OS writes pages back on its own schedule (and on close). */
+        NONE,
+        /** Forced after every enqueue and dequeue: slowest, survives power loss. */
+        EVERY_OPERATION,
+        /** Forced after every syncInterval enqueues/dequeues. */
+        BATCHED
+    }
+
+    private static final int MAGIC = 0x44535146;  // "DSQF"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 4096;  // One page
+    private static final int MAGIC_OFFSET = 0;
+    private static final int VERSION_OFFSET = 4;
+    private static final int CAPACITY_OFFSET = 8;
+    private static final int RECORD_SIZE_OFFSET = 12;
+    private static final int HEAD_OFFSET = 16;
+    private static final int TAIL_OFFSET = 24;
+    private static final int LENGTH_PREFIX = Integer.BYTES;
+
+    private final FileChannel channel;
+    private final MappedByteBuffer mapped;
+    private final ByteBuffer view;  // Reused window over one record
+    private final ElementSerializer<T> serializer;
+    private final SyncPolicy syncPolicy;
+    private final int syncInterval;
+    private final int capacity;
+    private final int maxRecordSize;
+    private final int slotSize;
+    private long head;      // Number of elements ever dequeued
+    private long tail;      // Number of elements ever enqueued
+    private int unsyncedOperations;
+    private boolean closed;
+
+    /**
+     * Opens (or creates) a queue file with no explicit syncing.
+     *
+     * @param file          the queue file
+     * @param capacity      the maximum number of elements the queue can hold
+     * @param maxRecordSize the maximum serialized size of one element, in bytes
+     * @param serializer    converts elements to and from bytes
+     * @throws IOException if the file cannot be opened or mapped, or is not a queue file
+     * @throws IllegalArgumentException if the parameters are invalid or do not match an existing file
+     */
+    public MappedArrayQueue(Path file, int capacity, int maxRecordSize,
+                            ElementSerializer<T> serializer) throws IOException {
+        this(file, capacity, maxRecordSize, serializer, SyncPolicy.NONE, 1);
+    }
+
+    /**
+     * Opens (or creates) a queue file.
+     * An existing file keeps its contents; its capacity and record size must match.
+     *
+     * @param file          the queue file
+     * @param capacity      the maximum number of elements the queue can hold
+     * @param maxRecordSize the maximum serialized size of one element, in bytes
+     * @param serializer    converts elements to and from bytes
+     * @param syncPolicy    when to force writes to the storage device
+     * @param syncInterval  operations between syncs for SyncPolicy.BATCHED (ignored otherwise)
+     * @throws IOException if the file cannot be opened or mapped, or is not a queue file
+     * @throws IllegalArgumentException if the parameters are invalid or do not match an existing file
+     */
+    public MappedArrayQueue(Path file, int capacity, int maxRecordSize, ElementSerializer<T> serializer,
+                            SyncPolicy syncPolicy, int syncInterval) throws IOException {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be at least 1");
+        }
+        if (maxRecordSize < 1) {
+            throw new IllegalArgumentException("Max record size must be at least 1");
+        }
+        if (syncPolicy == SyncPolicy.BATCHED && syncInterval < 1) {
+            throw new IllegalArgumentException("Sync interval must be at least 1");
+        }
+        long fileSize = HEADER_SIZE + (long) capacity * (LENGTH_PREFIX + maxRecordSize);
+        if (fileSize > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Queue file would exceed 2 GB (capacity * record size too large)");
+        }
+
+        this.capacity = capacity;
+        this.maxRecordSize = maxRecordSize;
+        this.slotSize = LENGTH_PREFIX + maxRecordSize;
+        this.serializer = serializer;
+        this.syncPolicy = syncPolicy;
+        this.syncInterval = syncInterval;
+
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            boolean existing = channel.size() > 0;
+            this.mapped = channel.map(FileChannel.MapMode.READ_WRITE, 0, fileSize);
+            this.mapped.order(ByteOrder.LITTLE_ENDIAN);
+            this.view = mapped.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+
+            if (existing) {
+                readHeader();
+            } else {
+                writeHeader();
+            }
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Adds an element to the rear of the queue.
+     * Time Complexity: O(1) plus serialization
+     *
+     * @param element the element to add
+     * @throws QueueOverflowException if the queue is full
+     * @throws IllegalArgumentException if element is null or serializes to more than maxRecordSize bytes
+     */
+    public void enqueue(T element) {
+        ensureOpen();
+        if (element == null) {
+            throw new IllegalArgumentException("Cannot enqueue null element");
+        }
+        if (isFull()) {
+            throw QueueOverflowException.of("Queue is full. Cannot enqueue element.");
+        }
+        int length = serializer.sizeOf(element);
+        if (length > maxRecordSize) {
+            throw new IllegalArgumentException("Element needs " + length
+                    + " bytes but records are limited to " + maxRecordSize);
+        }
+
+        // Write the record first, then publish it by moving tail
+        int offset = slotOffset(tail);
+        mapped.putInt(offset, length);
+        view.clear().position(offset + LENGTH_PREFIX).limit(offset + LENGTH_PREFIX + length);
+        serializer.write(element, view);
+
+        tail++;
+        publish(TAIL_OFFSET, tail, offset);
+    }
+
+    /**
+     * Removes and returns the element at the front of the queue.
+     * Time Complexity: O(1) plus deserialization
+     *
+     * @return the element at the front of the queue
+     * @throws QueueUnderflowException if the queue is empty
+     */
+    public T dequeue() {
+        ensureOpen();
+        if (isEmpty()) {
+            throw QueueUnderflowException.of("Queue is empty. Cannot dequeue element.");
+        }
+        int offset = slotOffset(head);
+        T element = readRecord(offset);
+
+        head++;
+        publish(HEAD_OFFSET, head, -1);
+        return element;
+    }
+
+    /**
+     * Returns the element at the front of the queue without removing it.
+     * Time Complexity: O(1) plus deserialization
+     *
+     * @return the element at the front of the queue
+     * @throws QueueUnderflowException if the queue is empty
+     */
+    public T peek() {
+        ensureOpen();
+        if (isEmpty()) {
+            throw QueueUnderflowException.of("Queue is empty. Cannot peek.");
+        }
+        return readRecord(slotOffset(head));
+    }
+
+    /**
+     * Returns the element at the rear of the queue without removing it.
+     * Time Complexity: O(1) plus deserialization
+     *
+     * @return the element at the rear of the queue
+     * @throws QueueUnderflowException if the queue is empty
+     */
+    public T peekRear() {
+        ensureOpen();
+        if (isEmpty()) {
+            throw QueueUnderflowException.of("Queue is empty. Cannot peek rear.");
+        }
+        return readRecord(slotOffset(tail - 1));
+    }
+
+    /**
+     * Checks if the queue is empty.
+     * Time Complexity: O(1)
+     *
+     * @return true if the queue is empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return head == tail;
+    }
+
+    /**
+     * Checks if the queue is full.
+     * Time Complexity: O(1)
+     *
+     * @return true if the queue is full, false otherwise
+     */
+    public boolean isFull() {
+        return tail - head == capacity;
+    }
+
+    /**
+     * Returns the current number of elements in the queue.
+     * Time Complexity: O(1)
+     *
+     * @return the number of elements
+     */
+    public int size() {
+        return (int) (tail - head);
+    }
+
+    /**
+     * Returns the maximum capacity of the queue.
+     * Time Complexity: O(1)
+     *
+     * @return the capacity
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Returns the maximum serialized size of one element.
+     * Time Complexity: O(1)
+     *
+     * @return the record size limit in bytes
+     */
+    public int getMaxRecordSize() {
+        return maxRecordSize;
+    }
+
+    /**
+     * Removes all elements from the queue.
+     * Only the head counter moves; slot contents are simply overwritten later.
+     * Time Complexity: O(1)
+     */
+    public void clear() {
+        ensureOpen();
+        head = tail;
+        publish(HEAD_OFFSET, head, -1);
+    }
+
+    /**
+     * Forces all changes to the storage device now, regardless of the sync policy.
+     * Time Complexity: O(dirty pages)
+     */
+    public void sync() {
+        ensureOpen();
+        mapped.force();
+        unsyncedOperations = 0;
+    }
+
+    /**
+     * Forces all changes to the storage device and closes the file.
+     * Further operations throw IllegalStateException.
+     *
+     * @throws IOException if the file cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        mapped.force();
+        closed = true;
+        channel.close();
+    }
+
+    /**
+     * Returns a string representation of the queue.
+     * Shows elements from front to rear.
+     * Time Complexity: O(n) plus deserialization
+     *
+     * @return string representation
+     */
+    @Override
+    public String toString() {
+        if (isEmpty()) {
+            return "Queue: [] (empty)";
+        }
+
+        StringBuilder sb = new StringBuilder("Queue (front to rear): [");
+        for (long ticket = head; ticket < tail; ticket++) {
+            sb.append(readRecord(slotOffset(ticket)));
+            if (ticket < tail - 1) {
+                sb.append(" <- ");
+            }
+        }
+
+        sb.append("] | Size: ").append(size()).append("/").append(capacity);
+        return sb.toString();
+    }
+
+    /**
+     * Returns the file offset of the slot for a head/tail counter value.
+     *
+     * @param counter the counter value
+     * @return the slot offset
+     */
+    private int slotOffset(long counter) {
+        return HEADER_SIZE + (int) (counter % capacity) * slotSize;
+    }
+
+    /**
+     * Deserializes the record stored in a slot.
+     *
+     * @param offset the slot offset
+     * @return the element
+     */
+    private T readRecord(int offset) {
+        int length = mapped.getInt(offset);
+        view.clear().position(offset + LENGTH_PREFIX).limit(offset + LENGTH_PREFIX + length);
+        return serializer.read(view);
+    }
+
+    /**
+     * Stores a new head or tail counter in the header, applying the sync policy.
+     * With EVERY_OPERATION the written slot is forced before the counter is
+     * stored: the OS may write dirty pages back in any order, so a counter
+     * stored earlier could reach the device ahead of the record it publishes.
+     *
+     * @param counterOffset HEAD_OFFSET or TAIL_OFFSET
+     * @param value         the new counter value
+     * @param slotOffset    offset of the slot that was written, or -1 if only the header changes
+     */
+    private void publish(int counterOffset, long value, int slotOffset) {
+        if (syncPolicy == SyncPolicy.EVERY_OPERATION && slotOffset >= 0) {
+            mapped.force(slotOffset, slotSize);
+        }
+        mapped.putLong(counterOffset, value);
+        switch (syncPolicy) {
+            case EVERY_OPERATION:
+                mapped.force(0, HEADER_SIZE);
+                break;
+            case BATCHED:
+                if (++unsyncedOperations >= syncInterval) {
+                    mapped.force();
+                    unsyncedOperations = 0;
+                }
+                break;
+            default:
+                break;
+        }
+    }
+
+    private void writeHeader() {
+        mapped.putInt(MAGIC_OFFSET, MAGIC);
+        mapped.putInt(VERSION_OFFSET, VERSION);
+        mapped.putInt(CAPACITY_OFFSET, capacity);
+        mapped.putInt(RECORD_SIZE_OFFSET, maxRecordSize);
+        mapped.putLong(HEAD_OFFSET, 0L);
+        mapped.putLong(TAIL_OFFSET, 0L);
+        mapped.force(0, HEADER_SIZE);
+    }
+
+    private void readHeader() throws IOException {
+        if (mapped.getInt(MAGIC_OFFSET) != MAGIC) {
+            throw new IOException("Not a queue file (bad magic number)");
+        }
+        if (mapped.getInt(VERSION_OFFSET) != VERSION) {
+            throw new IOException("Unsupported queue file version " + mapped.getInt(VERSION_OFFSET));
+        }
+        if (mapped.getInt(CAPACITY_OFFSET) != capacity
+                || mapped.getInt(RECORD_SIZE_OFFSET) != maxRecordSize) {
+            throw new IllegalArgumentException("Queue file was created with capacity "
+                    + mapped.getInt(CAPACITY_OFFSET) + " and record size "
+                    + mapped.getInt(RECORD_SIZE_OFFSET));
+        }
+        head = mapped.getLong(HEAD_OFFSET);
+        tail = mapped.getLong(TAIL_OFFSET);
+        if (head < 0 || tail < head || tail - head > capacity) {
+            throw new IOException("Corrupt queue file header (head=" + head + ", tail=" + tail + ")");
+        }
+    }
+
+    private void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException("Queue is closed");
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package MyQueue;
+
+import Exeptions.QueueUnderflowException;
+import MyStack.PersistentStack;
+
+/**
+ * An immutable FIFO queue built from two PersistentStacks (a batched queue).
+ * enqueue and dequeue never change a queue: they return a new version that
+ * shares its nodes with the old one, so taking a snapshot or a clone is
+ * just keeping the reference, O(1), and readers never need locks.
+ *
+ * Elements are dequeued from the front stack and enqueued onto the rear
+ * stack. When the front stack runs out, the rear stack is reversed into a
+ * new front, so the front is only empty when the whole queue is, and peek
+ * is always O(1). Each element is reversed once on the way through, so
+ * enqueue/dequeue are amortized O(1) along a single history of versions.
+ * Dequeuing the same old version again and again can repeat the same
+ * reversal: a queue that reaches many readers should be read with peek,
+ * or dequeued by one owner.
+ *
+ * @param <T> the type of elements in this queue
+ */
+public final class PersistentQueue<T> {
+    private static final PersistentQueue<?> EMPTY =
+            new PersistentQueue<>(PersistentStack.empty(), PersistentStack.empty());
+
+    private final PersistentStack<T> front;  // Top is the oldest element
+    private final PersistentStack<T> rear;   // Top is the newest element
+
+    private PersistentQueue(PersistentStack<T> front, PersistentStack<T> rear) {
+        this.front = front;
+        this.rear = rear;
+    }
+
+    /**
+     * Returns the empty queue.
+     * Time Complexity: O(1)
+     *
+     * @param <T> the type of elements
+     * @return the empty queue (one shared instance)
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> PersistentQueue<T> empty() {
+        return (PersistentQueue<T>) EMPTY;
+    }
+
+    /**
+     * Returns a queue with an element added at the rear of this one.
+     * Time Complexity: O(1)
+     *
+     * @param element the element to add
+     * @return the new queue; this queue is unchanged
+     * @throws IllegalArgumentException if element is null
+     */
+    public PersistentQueue<T> enqueue(T element) {
+        if (element == null) {
+            throw new IllegalArgumentException("Cannot enqueue null element");
+        }
+        if (front.isEmpty()) {
+            // Keep the front non-empty whenever the queue is non-empty
+            return new PersistentQueue<>(front.push(element), rear);
+        }
+        return new PersistentQueue<>(front, rear.push(element));
+    }
+
+    /**
+     * Returns this queue without its front element.
+     * Time Complexity: amortized O(1); O(n) when the rear has to be reversed
+     *
+     * @return the queue after the front; this queue is unchanged
+     * @throws QueueUnderflowException if the queue is empty
+     */
+    public PersistentQueue<T> dequeue() {
+        if (isEmpty()) {
+            throw QueueUnderflowException.of("Queue is empty. Cannot dequeue element.");
+        }
+        PersistentStack<T> newFront = front.pop();
+        if (newFront.isEmpty()) {
+            if (rear.isEmpty()) {
+                return empty();
+            }
+            return new PersistentQueue<>(rear.reverse(), PersistentStack.empty());
+        }
+        return new PersistentQueue<>(newFront, rear);
+    }
+
+    /**
+     * Returns the element at the front of the queue.
+     * Time Complexity: O(1)
+     *
+     * @return the element at the front of the queue
+     * @throws QueueUnderflowException if the queue is empty
+     */
+    public T peek() {
+        if (isEmpty()) {
+            throw QueueUnderflowException.of("Queue is empty. Cannot peek.");
+        }
+        return front.peek();
+    }
+
+    /**
+     * Checks if the queue is empty.
+     * Time Complexity: O(1)
+     *
+     * @return true if the queue is empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return front.isEmpty();
+    }
+
+    /**
+     * Returns the number of elements in the queue.
+     * Time Complexity: O(1)
+     *
+     * @return the number of elements
+     */
+    public int size() {
+        return front.size() + rear.size();
+    }
+
+    /**
+     * Searches for an element in the queue.
+     * Time Complexity: O(n)
+     *
+     * @param element the element to search for
+     * @return true if element exists, false otherwise
+     */
+    public boolean contains(T element) {
+        return front.search(element) != -1 || rear.search(element) != -1;
+    }
+
+    /**
+     * Converts the queue to an array, from front to rear.
+     * Time Complexity: O(n)
+     *
+     * @return array containing all elements in order
+     */
+    public Object[] toArray() {
+        Object[] array = new Object[size()];
+        Object[] head = front.toArray();         // Oldest first
+        Object[] tail = rear.toArray();          // Newest first
+        System.arraycopy(head, 0, array, 0, head.length);
+        for (int i = 0; i < tail.length; i++) {
+            array[array.length - 1 - i] = tail[i];
+        }
+        return array;
+    }
+
+    /**
+     * Returns a string representation of the queue.
+     * Shows elements from front to rear.
+     * Time Complexity: O(n)
+     *
+     * @return string representation
+     */
+    @Override
+    public String toString() {
+        if (isEmpty()) {
+            return "PersistentQueue: [] (empty)";
+        }
+
+        StringBuilder sb = new StringBuilder("PersistentQueue (front to rear): [");
+        Object[] elements = toArray();
+        for (int i = 0; i < elements.length; i++) {
+            sb.append(elements[i]);
+            if (i < elements.length - 1) {
+                sb.append(" <- ");
+            }
+        }
+        sb.append("]");
+        return sb.toString();
+    }
+}
@@ -1,4 +1,59 @@
 package MyQueue;
 
-public interface Queue {
+import Exeptions.QueueOverflowException;
+import Exeptions.QueueUnderflowException;
+
+/**
+ * The common contract of the queues in this package.
+ * Elements go in with enqueue and come out with dequeue, in an order set by
+ * the implementation: FIFO for the array and linked-list queues, smallest
+ * first for the priority queue. Null elements are never allowed.
+ *
+ * @param <T> the type of elements in this queue
+ */
+public interface Queue<T> {
+
+    /**
+     * Adds an element to the queue.
+     *
+     * @param element the element to add
+     * @throws QueueOverflowException if a bounded queue is full
+     * @throws IllegalArgumentException if element is null
+     */
+    void enqueue(T element);
+
+    /**
+     * Removes and returns the next element.
+     *
+     * @return the next element
+     * @throws QueueUnderflowException if the queue is empty
+     */
+    T dequeue();
+
+    /**
+     * Returns the next element without removing it.
+     *
+     * @return the next element
+     * @throws QueueUnderflowException if the queue is empty
+     */
+    T peek();
+
+    /**
+     * Returns the current number of elements in the queue.
+     *
+     * @return the number of elements
+     */
+    int size();
+
+    /**
+     * Checks if the queue is empty.
+     *
+     * @return true if the queue is empty, false otherwise
+     */
+    boolean isEmpty();
+
+    /**
+     * Removes all elements from the queue.
+     */
+    void clear();
 }
@@ -0,0 +1,284 @@
+package MyQueue;
+
+import Exeptions.QueueOverflowException;
+import Exeptions.QueueUnderflowException;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A bounded, relaxed-FIFO Queue for many producers and consumers, split into shards.
+ * Each shard is a ConcurrentArrayQueue with its own head and tail, so
+ * threads working on different shards never touch the same counters and
+ * throughput grows with the number of shards instead of being limited by
+ * one contended head and tail.
+ *
+ * Every thread gets a home shard, assigned round-robin on first use.
+ * Producers enqueue on their home shard and only move on to the next
+ * shards when it is full. Consumers start at their home shard and sweep
+ * across the shards in order, taking at most `fairness` elements from one
+ * shard before moving to the next, and moving on early when a shard is
+ * empty.
+ *
+ * Ordering guarantees:
+ * - Elements that one producer adds to the same shard come out in FIFO order.
+ * - There is no global FIFO order. With a single consumer, the element at
+ *   the head of a shard is overtaken by at most fairness * (shards - 1)
+ *   other elements before it is dequeued. With several consumers the
+ *   bound holds per consumer.
+ * - fairness = 1 gives strict round-robin across shards, and a larger
+ *   value gives fewer shard switches and better cache locality.
+ *
+ * size(), isEmpty() and peek() combine per-shard values that can change
+ * while they are read, so they are only exact when the queue is quiescent.
+ *
+ * @param <T> the type of elements in this queue
+ */
+public class ShardedQueue<T> implements Queue<T> {
+    private static final int DEFAULT_FAIRNESS = 32;
+
+    /**
+     * Per-thread position: home shard and consumer sweep state.
+     */
+    private static final class Cursor {
+        final int home;
+        int shard;  // Shard the consumer is currently taking from
+        int taken;  // Elements taken from it since arriving there
+
+        Cursor(int home) {
+            this.home = home;
+            this.shard = home;
+        }
+    }
+
+    private final ConcurrentArrayQueue<T>[] shards;
+    private final int fairness;
+    private final AtomicInteger nextHome = new AtomicInteger();
+    private final ThreadLocal<Cursor> cursors;
+
+    /**
+     * Constructs a queue with one shard per available processor.
+     *
+     * @param shardCapacity the maximum number of elements each shard can hold
+     * @throws IllegalArgumentException if shardCapacity is less than 2
+     */
+    public ShardedQueue(int shardCapacity) {
+        this(Runtime.getRuntime().availableProcessors(), shardCapacity, DEFAULT_FAIRNESS);
+    }
+
+    /**
+     * Constructs a queue with the specified shards and overtaking bound.
+     *
+     * @param shardCount    the number of shards
+     * @param shardCapacity the maximum number of elements each shard can hold
+     * @param fairness      the most elements a consumer takes from one shard before moving on
+     * @throws IllegalArgumentException if shardCount or fairness is less than 1,
+     *                                  or shardCapacity is less than 2 (see ConcurrentArrayQueue)
+     */
+    @SuppressWarnings("unchecked")
+    public ShardedQueue(int shardCount, int shardCapacity, int fairness) {
+        if (shardCount < 1) {
+            throw new IllegalArgumentException("Shard count must be at least 1");
+        }
+        if (shardCapacity < 2) {
+            throw new IllegalArgumentException("Shard capacity must be at least 2");
+        }
+        if (fairness < 1) {
+            throw new IllegalArgumentException("Fairness must be at least 1");
+        }
+        this.shards = (ConcurrentArrayQueue<T>[]) new ConcurrentArrayQueue<?>[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            shards[i] = new ConcurrentArrayQueue<>(shardCapacity);
+        }
+        this.fairness = fairness;
+        this.cursors = ThreadLocal.withInitial(
+                () -> new Cursor(Math.floorMod(nextHome.getAndIncrement(), shardCount)));
+    }
+
+    /**
+     * Adds an element to the calling thread's home shard, or the next shard with room.
+     * Time Complexity: O(1), O(shards) when shards are full; lock-free
+     *
+     * @param element the element to add
+     * @throws QueueOverflowException if every shard is full
+     * @throws IllegalArgumentException if element is null
+     */
+    public void enqueue(T element) {
+        if (!offer(element)) {
+            throw QueueOverflowException.of("Queue is full. Cannot enqueue element.");
+        }
+    }
+
+    /**
+     * Adds an element to the calling thread's home shard, or the next shard with room.
+     * Time Complexity: O(1), O(shards) when shards are full; lock-free
+     *
+     * @param element the element to add
+     * @return true if the element was added, false if every shard was full
+     * @throws IllegalArgumentException if element is null
+     */
+    public boolean offer(T element) {
+        if (element == null) {
+            throw new IllegalArgumentException("Cannot enqueue null element");
+        }
+        int shard = cursors.get().home;
+        for (int i = 0; i < shards.length; i++) {
+            if (shards[shard].offer(element)) {
+                return true;
+            }
+            shard = next(shard);
+        }
+        return false;
+    }
+
+    /**
+     * Removes and returns an element, sweeping the shards from the calling thread's position.
+     * Time Complexity: O(1), O(shards) when shards are empty; lock-free
+     *
+     * @return the element removed
+     * @throws QueueUnderflowException if every shard was empty
+     */
+    public T dequeue() {
+        T element = poll();
+        if (element == null) {
+            throw QueueUnderflowException.of("Queue is empty. Cannot dequeue element.");
+        }
+        return element;
+    }
+
+    /**
+     * Removes and returns an element, sweeping the shards from the calling thread's position.
+     * Time Complexity: O(1), O(shards) when shards are empty; lock-free
+     *
+     * @return the element removed, or null if every shard was empty
+     */
+    public T poll() {
+        Cursor cursor = cursors.get();
+        // One visit to every shard, plus a second look at the starting one
+        // if its fairness quota ran out before it was empty
+        for (int i = 0; i <= shards.length; i++) {
+            if (cursor.taken < fairness) {
+                T element = shards[cursor.shard].poll();
+                if (element != null) {
+                    cursor.taken++;
+                    return element;
+                }
+            }
+            cursor.shard = next(cursor.shard);
+            cursor.taken = 0;
+        }
+        return null;
+    }
+
+    /**
+     * Returns the element the calling thread would most likely dequeue next, without removing it.
+     * Time Complexity: O(shards)
+     *
+     * @return an element of the queue
+     * @throws QueueUnderflowException if every shard was empty
+     */
+    public T peek() {
+        Cursor cursor = cursors.get();
+        int shard = cursor.taken < fairness ? cursor.shard : next(cursor.shard);
+        for (int i = 0; i < shards.length; i++) {
+            if (!shards[shard].isEmpty()) {
+                try {
+                    return shards[shard].peek();
+                } catch (QueueUnderflowException e) {
+                    // Emptied by another consumer in between; keep looking
+                }
+            }
+            shard = next(shard);
+        }
+        throw QueueUnderflowException.of("Queue is empty. Cannot peek.");
+    }
+
+    /**
+     * Checks if every shard is empty.
+     * Time Complexity: O(shards)
+     *
+     * @return true if the queue is empty, false otherwise
+     */
+    public boolean isEmpty() {
+        for (ConcurrentArrayQueue<T> shard : shards) {
+            if (!shard.isEmpty()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the total number of elements across all shards.
+     * Time Complexity: O(shards)
+     *
+     * @return the number of elements
+     */
+    public int size() {
+        int size = 0;
+        for (ConcurrentArrayQueue<T> shard : shards) {
+            size += shard.size();
+        }
+        return size;
+    }
+
+    /**
+     * Removes all elements from every shard.
+     * Time Complexity: O(n)
+     */
+    public void clear() {
+        for (ConcurrentArrayQueue<T> shard : shards) {
+            shard.clear();
+        }
+    }
+
+    /**
+     * Returns the number of shards.
+     *
+     * @return the shard count
+     */
+    public int getShardCount() {
+        return shards.length;
+    }
+
+    /**
+     * Returns the most elements a consumer takes from one shard before moving on.
+     *
+     * @return the fairness quantum
+     */
+    public int getFairness() {
+        return fairness;
+    }
+
+    /**
+     * Returns the total capacity across all shards.
+     *
+     * @return the capacity
+     */
+    public long getCapacity() {
+        return (long) shards.length * shards[0].getCapacity();
+    }
+
+    /**
+     * Returns a string representation of the queue with per-shard sizes.
+     * Time Complexity: O(shards)
+     *
+     * @return string representation
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("ShardedQueue: size = ").append(size())
+                .append(", fairness = ").append(fairness).append(", shards = [");
+        for (int i = 0; i < shards.length; i++) {
+            sb.append(shards[i].size());
+            if (i < shards.length - 1) {
+                sb.append(", ");
+            }
+        }
+        sb.append("]");
+        return sb.toString();
+    }
+
+    private int next(int shard) {
+        return shard + 1 == shards.length ? 0 : shard + 1;
+    }
+}
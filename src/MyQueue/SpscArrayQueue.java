@@ -0,0 +1,246 @@
+package MyQueue;
+
+import Exeptions.QueueOverflowException;
+import Exeptions.QueueUnderflowException;
+import common.PaddedAtomicLong;
+
+/**
+ * A wait-free bounded Queue for exactly one producer thread and one consumer thread.
+ * Same circular array as ArrayQueue, with these changes for throughput:
+ * - capacity is a power of two, so the slot index is (counter & mask) instead of % capacity
+ * - no shared size field: the producer owns the tail counter and the consumer owns the head
+ *   counter, each on its own cache line
+ * - each side caches the last value it read of the other side's counter and only re-reads
+ *   it when the cached value says the queue is full (producer) or empty (consumer)
+ * - elements are published with lazySet (a release store) instead of a full volatile write
+ *
+ * Calling enqueue/offer from more than one thread, or dequeue/poll/peek from more than
+ * one thread, is not supported.
+ *
+ * @param <T> the type of elements in this queue
+ */
+public class SpscArrayQueue<T> implements Queue<T> {
+    private final Object[] queueArray;
+    private final int mask;
+    private final int capacity;
+
+    // Producer side: written only by the producer thread
+    private final PaddedAtomicLong tail = new PaddedAtomicLong();
+    private long headCache;
+
+    // Padding: keeps the two cached counters on different cache lines
+    @SuppressWarnings("unused")
+    private long p1, p2, p3, p4, p5, p6, p7;
+
+    // Consumer side: written only by the consumer thread
+    private final PaddedAtomicLong head = new PaddedAtomicLong();
+    private long tailCache;
+
+    /**
+     * Constructs a queue that can hold at least the specified number of elements.
+     * The capacity is rounded up to the next power of two.
+     *
+     * @param capacity the minimum number of elements the queue can hold
+     * @throws IllegalArgumentException if capacity is less than 1 or greater than 2^30
+     */
+    public SpscArrayQueue(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be at least 1");
+        }
+        if (capacity > (1 << 30)) {
+            throw new IllegalArgumentException("Capacity must be at most 2^30");
+        }
+        this.capacity = nextPowerOfTwo(capacity);
+        this.mask = this.capacity - 1;
+        this.queueArray = new Object[this.capacity];
+    }
+
+    private static int nextPowerOfTwo(int value) {
+        return value == 1 ? 1 : Integer.highestOneBit(value - 1) << 1;
+    }
+
+    /**
+     * Adds an element to the rear of the queue. Producer thread only.
+     * Time Complexity: O(1), wait-free
+     *
+     * @param element the element to add
+     * @throws QueueOverflowException if the queue is full
+     * @throws IllegalArgumentException if element is null
+     */
+    public void enqueue(T element) {
+        if (!offer(element)) {
+            throw QueueOverflowException.of("Queue is full. Cannot enqueue element.");
+        }
+    }
+
+    /**
+     * Adds an element to the rear of the queue if there is room. Producer thread only.
+     * Time Complexity: O(1), wait-free
+     *
+     * @param element the element to add
+     * @return true if the element was added, false if the queue is full
+     * @throws IllegalArgumentException if element is null
+     */
+    public boolean offer(T element) {
+        if (element == null) {
+            throw new IllegalArgumentException("Cannot enqueue null element");
+        }
+
+        long currentTail = tail.get();
+        if (currentTail - headCache >= capacity) {
+            // Looks full: refresh our view of the consumer's progress
+            headCache = head.get();
+            if (currentTail - headCache >= capacity) {
+                return false;
+            }
+        }
+
+        queueArray[(int) currentTail & mask] = element;
+        tail.lazySet(currentTail + 1);  // Release: element is visible before the new tail
+        return true;
+    }
+
+    /**
+     * Removes and returns the element at the front of the queue. Consumer thread only.
+     * Time Complexity: O(1), wait-free
+     *
+     * @return the element at the front of the queue
+     * @throws QueueUnderflowException if the queue is empty
+     */
+    public T dequeue() {
+        T element = poll();
+        if (element == null) {
+            throw QueueUnderflowException.of("Queue is empty. Cannot dequeue element.");
+        }
+        return element;
+    }
+
+    /**
+     * Removes and returns the element at the front of the queue, if any. Consumer thread only.
+     * Time Complexity: O(1), wait-free
+     *
+     * @return the element at the front of the queue, or null if the queue is empty
+     */
+    @SuppressWarnings("unchecked")
+    public T poll() {
+        long currentHead = head.get();
+        if (currentHead >= tailCache) {
+            // Looks empty: refresh our view of the producer's progress
+            tailCache = tail.get();
+            if (currentHead >= tailCache) {
+                return null;
+            }
+        }
+
+        int index = (int) currentHead & mask;
+        T element = (T) queueArray[index];
+        queueArray[index] = null;  // Help garbage collection
+        head.lazySet(currentHead + 1);  // Release: slot is cleared before the producer reuses it
+        return element;
+    }
+
+    /**
+     * Returns the element at the front of the queue without removing it. Consumer thread only.
+     * Time Complexity: O(1)
+     *
+     * @return the element at the front of the queue
+     * @throws QueueUnderflowException if the queue is empty
+     */
+    @SuppressWarnings("unchecked")
+    public T peek() {
+        long currentHead = head.get();
+        if (currentHead >= tailCache) {
+            tailCache = tail.get();
+            if (currentHead >= tailCache) {
+                throw QueueUnderflowException.of("Queue is empty. Cannot peek.");
+            }
+        }
+        return (T) queueArray[(int) currentHead & mask];
+    }
+
+    /**
+     * Checks if the queue is empty.
+     * Time Complexity: O(1)
+     *
+     * @return true if the queue is empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Checks if the queue is full.
+     * Time Complexity: O(1)
+     *
+     * @return true if the queue is full, false otherwise
+     */
+    public boolean isFull() {
+        return size() == capacity;
+    }
+
+    /**
+     * Returns the current number of elements in the queue.
+     * Can be called from any thread; the result is a snapshot.
+     * Time Complexity: O(1)
+     *
+     * @return the number of elements
+     */
+    public int size() {
+        while (true) {
+            long currentHead = head.get();
+            long currentTail = tail.get();
+            // Retry until head did not move while tail was read
+            if (head.get() == currentHead) {
+                return (int) Math.max(0, Math.min(currentTail - currentHead, capacity));
+            }
+        }
+    }
+
+    /**
+     * Removes all elements present when the call starts. Consumer thread only.
+     * Time Complexity: O(n)
+     */
+    public void clear() {
+        while (poll() != null) {
+            // Drain
+        }
+    }
+
+    /**
+     * Returns the maximum capacity of the queue (a power of two).
+     * Time Complexity: O(1)
+     *
+     * @return the capacity
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Returns a string representation of the queue.
+     * Only meaningful when neither thread is modifying the queue.
+     * Time Complexity: O(n)
+     *
+     * @return string representation
+     */
+    @Override
+    public String toString() {
+        int size = size();
+        if (size == 0) {
+            return "Queue: [] (empty)";
+        }
+
+        StringBuilder sb = new StringBuilder("Queue (front to rear): [");
+        long currentHead = head.get();
+
+        for (int count = 0; count < size; count++) {
+            sb.append(queueArray[(int) (currentHead + count) & mask]);
+            if (count < size - 1) {
+                sb.append(" <- ");
+            }
+        }
+
+        sb.append("] | Size: ").append(size).append("/").append(capacity);
+        return sb.toString();
+    }
+}
@@ -0,0 +1,431 @@
+package MyQueue;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * A hierarchical timing wheel: schedules elements to expire after a number
+ * of ticks, with O(1) schedule and cancel.
+ *
+ * The wheel has `levels` rings of `wheelSize` slots (a power of two). Level 0
+ * has one slot per tick; each slot of level L covers wheelSize^L ticks.
+ * A timer goes into the lowest level whose span covers its delay, in the slot
+ * its deadline maps to. Each advance() moves time forward one tick: when the
+ * tick reaches the start of a higher-level slot, that slot is cascaded (its
+ * timers are re-placed, now into lower levels), and then the whole level-0
+ * slot for the tick expires as one batch.
+ *
+ * Slots are FIFO buckets: intrusive doubly linked lists of Timer nodes, like
+ * LinkedListQueue but with a back link so cancel() can unlink a timer from the
+ * middle of its bucket in O(1). The memory footprint is the fixed slot
+ * arrays plus one Timer node per pending timer; nothing else is allocated.
+ * Delays beyond the top level's span wait in the top level and are re-placed
+ * each time their slot comes round.
+ *
+ * Not thread-safe: schedule, cancel and advance must run on one thread (or
+ * under one lock). Expiry callbacks may schedule and cancel timers.
+ *
+ * @param <T> the type of scheduled elements
+ */
+public class TimingWheel<T> {
+    private static final int DEFAULT_WHEEL_SIZE = 256;
+    private static final int DEFAULT_LEVELS = 4;
+
+    // Timer states
+    private static final int PENDING = 0;
+    private static final int FIRING = 1;    // In the batch being expired right now
+    private static final int EXPIRED = 2;
+    private static final int CANCELLED = 3;
+
+    /**
+     * Handle of a scheduled element, used to cancel it.
+     *
+     * @param <T> the type of the scheduled element
+     */
+    public static final class Timer<T> {
+        private final T element;
+        private final long deadline;
+        private final TimingWheel<T> wheel;
+        private Timer<T> prev;
+        private Timer<T> next;
+        private int slot;    // Flattened level * wheelSize + index, while PENDING
+        private int state;
+
+        private Timer(T element, long deadline, TimingWheel<T> wheel) {
+            this.element = element;
+            this.deadline = deadline;
+            this.wheel = wheel;
+        }
+
+        /**
+         * Returns the scheduled element.
+         *
+         * @return the element
+         */
+        public T getElement() {
+            return element;
+        }
+
+        /**
+         * Returns the tick at which the element expires.
+         *
+         * @return the deadline tick
+         */
+        public long getDeadline() {
+            return deadline;
+        }
+
+        /**
+         * Checks if the timer has neither expired nor been cancelled.
+         *
+         * @return true if still pending
+         */
+        public boolean isPending() {
+            return state == PENDING || state == FIRING;
+        }
+
+        /**
+         * Checks if the timer was cancelled.
+         *
+         * @return true if cancelled
+         */
+        public boolean isCancelled() {
+            return state == CANCELLED;
+        }
+    }
+
+    private final int wheelSize;
+    private final int bits;      // log2(wheelSize)
+    private final int mask;      // wheelSize - 1
+    private final int levels;
+    private final Timer<T>[] heads;  // Per slot, flattened: level * wheelSize + index
+    private final Timer<T>[] tails;
+    private Timer<T> firing;         // Rest of the batch being expired, not yet passed to onExpire
+    private long currentTick;
+    private int size;
+
+    /**
+     * Constructs a wheel with 4 levels of 256 slots (2^32 ticks before delays wait in the top level).
+     */
+    public TimingWheel() {
+        this(DEFAULT_WHEEL_SIZE, DEFAULT_LEVELS);
+    }
+
+    /**
+     * Constructs a wheel with the given shape.
+     *
+     * @param wheelSize slots per level, a power of two of at least 2
+     * @param levels    number of levels, at least 1
+     * @throws IllegalArgumentException if wheelSize is not a power of two of at least 2,
+     *                                  or levels is less than 1 or spans more than 62 bits of ticks
+     */
+    @SuppressWarnings("unchecked")
+    public TimingWheel(int wheelSize, int levels) {
+        if (wheelSize < 2 || Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("Wheel size must be a power of two of at least 2");
+        }
+        int bits = Integer.numberOfTrailingZeros(wheelSize);
+        if (levels < 1 || (long) bits * levels > 62) {
+            throw new IllegalArgumentException("Levels must be at least 1 and span at most 62 bits");
+        }
+        this.wheelSize = wheelSize;
+        this.bits = bits;
+        this.mask = wheelSize - 1;
+        this.levels = levels;
+        this.heads = (Timer<T>[]) new Timer<?>[wheelSize * levels];
+        this.tails = (Timer<T>[]) new Timer<?>[wheelSize * levels];
+        this.currentTick = 0;
+        this.size = 0;
+    }
+
+    /**
+     * Schedules an element to expire after a number of ticks.
+     * Time Complexity: O(1)
+     *
+     * @param element    the element to schedule
+     * @param delayTicks ticks from now; values below 1 expire on the next advance
+     * @return the timer handle, for cancel()
+     * @throws IllegalArgumentException if element is null
+     */
+    public Timer<T> schedule(T element, long delayTicks) {
+        if (element == null) {
+            throw new IllegalArgumentException("Cannot schedule null element");
+        }
+        long delay = Math.max(1, delayTicks);
+        long deadline = delay > Long.MAX_VALUE - currentTick ? Long.MAX_VALUE : currentTick + delay;
+        Timer<T> timer = new Timer<>(element, deadline, this);
+        place(timer);
+        size++;
+        return timer;
+    }
+
+    /**
+     * Cancels a timer so its element never expires.
+     * Time Complexity: O(1)
+     *
+     * @param timer a timer returned by this wheel's schedule()
+     * @return true if the timer was pending and is now cancelled, false if it
+     *         had already expired or been cancelled
+     * @throws IllegalArgumentException if the timer belongs to another wheel
+     */
+    public boolean cancel(Timer<T> timer) {
+        if (timer.wheel != this) {
+            throw new IllegalArgumentException("Timer belongs to another wheel");
+        }
+        if (timer.state == PENDING) {
+            unlink(timer);
+            timer.state = CANCELLED;
+            size--;
+            return true;
+        }
+        if (timer.state == FIRING) {
+            // Already detached with its batch; the batch loop skips it
+            timer.state = CANCELLED;
+            size--;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Moves time forward one tick: cascades the higher-level slots that start
+     * at the new tick, then expires the tick's level-0 slot as one batch.
+     * Time Complexity: O(1) plus the timers cascaded or expired
+     *
+     * @param onExpire receives each expired element, in scheduling order within the slot
+     * @return the number of elements expired
+     */
+    public int advance(Consumer<? super T> onExpire) {
+        Objects.requireNonNull(onExpire, "onExpire");
+        currentTick++;
+
+        // Highest level first, so its timers can still land in a lower slot cascaded this tick
+        for (int level = levels - 1; level >= 1; level--) {
+            long levelMask = (1L << (bits * level)) - 1;
+            if ((currentTick & levelMask) == 0) {
+                cascade(level * wheelSize + (int) ((currentTick >>> (bits * level)) & mask));
+            }
+        }
+        return expire((int) (currentTick & mask), onExpire);
+    }
+
+    /**
+     * Advances tick by tick until the given tick is reached.
+     * When no timers are pending, time jumps straight to the target.
+     * Time Complexity: O(ticks) plus the timers cascaded or expired
+     *
+     * @param tick     the tick to advance to (ignored if not after the current tick)
+     * @param onExpire receives each expired element
+     * @return the number of elements expired
+     */
+    public int advanceTo(long tick, Consumer<? super T> onExpire) {
+        Objects.requireNonNull(onExpire, "onExpire");
+        int expired = 0;
+        while (currentTick < tick) {
+            if (size == 0) {
+                currentTick = tick;  // Nothing to cascade or expire on the way
+                break;
+            }
+            expired += advance(onExpire);
+        }
+        return expired;
+    }
+
+    /**
+     * Returns the current tick (0 when the wheel was created).
+     *
+     * @return the current tick
+     */
+    public long getCurrentTick() {
+        return currentTick;
+    }
+
+    /**
+     * Returns the number of pending timers.
+     * Time Complexity: O(1)
+     *
+     * @return the number of pending timers
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks if no timers are pending.
+     * Time Complexity: O(1)
+     *
+     * @return true if no timers are pending
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of slots per level.
+     *
+     * @return the wheel size
+     */
+    public int getWheelSize() {
+        return wheelSize;
+    }
+
+    /**
+     * Returns the number of levels.
+     *
+     * @return the level count
+     */
+    public int getLevels() {
+        return levels;
+    }
+
+    /**
+     * Cancels every pending timer, including the rest of the batch being
+     * expired when called from an expiry callback. The current tick is kept.
+     * Time Complexity: O(slots + pending timers)
+     */
+    public void clear() {
+        for (Timer<T> timer = firing; timer != null; timer = timer.next) {
+            if (timer.state == FIRING) {
+                timer.state = CANCELLED;  // The batch loop skips it; size is reset below
+            }
+        }
+        for (int i = 0; i < heads.length; i++) {
+            for (Timer<T> timer = heads[i]; timer != null; ) {
+                Timer<T> next = timer.next;
+                timer.prev = timer.next = null;  // Help garbage collection
+                timer.state = CANCELLED;
+                timer = next;
+            }
+            heads[i] = tails[i] = null;
+        }
+        size = 0;
+    }
+
+    /**
+     * Returns a string representation of the wheel.
+     *
+     * @return string representation with the shape, current tick and pending count
+     */
+    @Override
+    public String toString() {
+        return "TimingWheel: " + levels + " levels x " + wheelSize + " slots, tick = "
+                + currentTick + ", pending = " + size;
+    }
+
+    /**
+     * Appends a pending timer to the slot its deadline maps to.
+     * Time Complexity: O(1)
+     */
+    private void place(Timer<T> timer) {
+        long delay = timer.deadline - currentTick;
+        int slot;
+        if (delay <= 0) {
+            // Due now (only while cascading): the level-0 slot about to expire
+            slot = (int) (currentTick & mask);
+        } else {
+            int level = 0;
+            while (level < levels - 1 && (delay >>> (bits * (level + 1))) != 0) {
+                level++;
+            }
+            // Beyond the top level's span: wait in the last top-level slot before wrapping
+            long target = (delay >>> (bits * levels)) == 0
+                    ? timer.deadline
+                    : currentTick + (1L << (bits * levels)) - 1;
+            slot = level * wheelSize + (int) ((target >>> (bits * level)) & mask);
+        }
+
+        timer.slot = slot;
+        timer.state = PENDING;
+        timer.prev = tails[slot];
+        timer.next = null;
+        if (tails[slot] == null) {
+            heads[slot] = timer;
+        } else {
+            tails[slot].next = timer;
+        }
+        tails[slot] = timer;
+    }
+
+    /**
+     * Removes a pending timer from the middle of its slot.
+     * Time Complexity: O(1)
+     */
+    private void unlink(Timer<T> timer) {
+        int slot = timer.slot;
+        if (timer.prev == null) {
+            heads[slot] = timer.next;
+        } else {
+            timer.prev.next = timer.next;
+        }
+        if (timer.next == null) {
+            tails[slot] = timer.prev;
+        } else {
+            timer.next.prev = timer.prev;
+        }
+        timer.prev = timer.next = null;
+    }
+
+    /**
+     * Re-places every timer of a higher-level slot relative to the current tick.
+     */
+    private void cascade(int slot) {
+        Timer<T> timer = heads[slot];
+        heads[slot] = tails[slot] = null;
+        while (timer != null) {
+            Timer<T> next = timer.next;
+            place(timer);
+            timer = next;
+        }
+    }
+
+    /**
+     * Detaches a level-0 slot and expires its timers as one batch.
+     *
+     * @return the number of elements expired
+     */
+    private int expire(int slot, Consumer<? super T> onExpire) {
+        Timer<T> first = heads[slot];
+        if (first == null) {
+            return 0;
+        }
+        heads[slot] = tails[slot] = null;
+
+        // Mark the whole batch first, so a callback can still cancel a later timer in it.
+        // With a single level, far deadlines wait in level 0 and go back in here.
+        Timer<T> batch = null;
+        Timer<T> last = null;
+        for (Timer<T> timer = first; timer != null; ) {
+            Timer<T> next = timer.next;
+            if (timer.deadline > currentTick) {
+                place(timer);
+            } else {
+                timer.state = FIRING;
+                timer.next = null;
+                if (last == null) {
+                    batch = timer;
+                } else {
+                    last.next = timer;
+                }
+                last = timer;
+            }
+            timer = next;
+        }
+        int expired = 0;
+        Timer<T> outer = firing;  // Set if advance() was called from a callback
+        Timer<T> timer = batch;
+        while (timer != null) {
+            Timer<T> next = timer.next;
+            timer.prev = timer.next = null;  // Help garbage collection
+            firing = next;
+            if (timer.state == FIRING) {
+                timer.state = EXPIRED;
+                size--;
+                expired++;
+                onExpire.accept(timer.element);
+            }
+            timer = next;
+        }
+        firing = outer;
+        return expired;
+    }
+}
@@ -0,0 +1,282 @@
+package MyQueue;
+
+import Exeptions.QueueUnderflowException;
+import common.Chunk;
+
+/**
+ * A generic Queue implementation using an Unrolled Linked List.
+ * Follows FIFO (First In First Out) principle.
+ * Dynamic size - no capacity limit, like LinkedListQueue.
+ *
+ * Instead of one Node per element, each link is a Chunk holding up to
+ * chunkSize elements in an array. That gives one allocation per chunkSize
+ * enqueues, array-like memory density, and sequential memory access when
+ * scanning. The chunk emptied at the front is kept as a spare and reused
+ * for the next chunk at the rear, so a queue that stays around one size
+ * stops allocating altogether.
+ *
+ * @param <T> the type of elements in this queue
+ */
+public class UnrolledLinkedListQueue<T> implements Queue<T> {
+    private static final int DEFAULT_CHUNK_SIZE = 64;
+
+    private final int chunkSize;
+    private Chunk<T> front;  // Chunk holding the first element (for dequeue)
+    private Chunk<T> rear;   // Chunk holding the last element (for enqueue)
+    private Chunk<T> spare;  // Recycled empty chunk, or null
+    private int size;
+
+    /**
+     * Constructs an empty queue with 64 elements per chunk.
+     */
+    public UnrolledLinkedListQueue() {
+        this(DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Constructs an empty queue with the given number of elements per chunk.
+     *
+     * @param chunkSize the number of elements each chunk holds
+     * @throws IllegalArgumentException if chunkSize is less than 1
+     */
+    public UnrolledLinkedListQueue(int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Chunk size must be at least 1");
+        }
+        this.chunkSize = chunkSize;
+        this.front = null;
+        this.rear = null;
+        this.size = 0;
+    }
+
+    /**
+     * Adds an element to the rear of the queue.
+     * Time Complexity: O(1)
+     *
+     * @param element the element to add
+     * @throws IllegalArgumentException if element is null
+     */
+    public void enqueue(T element) {
+        if (element == null) {
+            throw new IllegalArgumentException("Cannot enqueue null element");
+        }
+
+        if (rear == null) {
+            // First element: both front and rear point to the same chunk
+            front = rear = newChunk();
+        } else if (rear.isFull()) {
+            // Link a new chunk at the end and update rear
+            Chunk<T> chunk = newChunk();
+            rear.setNext(chunk);
+            rear = chunk;
+        }
+        rear.addLast(element);
+        size++;
+    }
+
+    /**
+     * Removes and returns the element at the front of the queue.
+     * Time Complexity: O(1)
+     *
+     * @return the element at the front of the queue
+     * @throws QueueUnderflowException if the queue is empty
+     */
+    public T dequeue() {
+        if (isEmpty()) {
+            throw QueueUnderflowException.of("Queue is empty. Cannot dequeue element.");
+        }
+
+        T data = front.removeFirst();
+        size--;
+
+        if (front.isEmpty()) {
+            Chunk<T> emptied = front;
+            front = front.getNext();
+            // If queue becomes empty, update rear to null
+            if (front == null) {
+                rear = null;
+            }
+            recycle(emptied);
+        }
+        return data;
+    }
+
+    /**
+     * Returns the element at the front of the queue without removing it.
+     * Time Complexity: O(1)
+     *
+     * @return the element at the front of the queue
+     * @throws QueueUnderflowException if the queue is empty
+     */
+    public T peek() {
+        if (isEmpty()) {
+            throw QueueUnderflowException.of("Queue is empty. Cannot peek.");
+        }
+        return front.getFirst();
+    }
+
+    /**
+     * Returns the element at the rear of the queue without removing it.
+     * Time Complexity: O(1)
+     *
+     * @return the element at the rear of the queue
+     * @throws QueueUnderflowException if the queue is empty
+     */
+    public T peekRear() {
+        if (isEmpty()) {
+            throw QueueUnderflowException.of("Queue is empty. Cannot peek rear.");
+        }
+        return rear.getLast();
+    }
+
+    /**
+     * Checks if the queue is empty.
+     * Time Complexity: O(1)
+     *
+     * @return true if the queue is empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the current number of elements in the queue.
+     * Time Complexity: O(1)
+     *
+     * @return the number of elements
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of elements each chunk holds.
+     * Time Complexity: O(1)
+     *
+     * @return the chunk size
+     */
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    /**
+     * Removes all elements from the queue.
+     * Time Complexity: O(1) - just reset references
+     */
+    public void clear() {
+        front = null;
+        rear = null;
+        size = 0;
+    }
+
+    /**
+     * Searches for an element in the queue.
+     * Time Complexity: O(n)
+     *
+     * @param element the element to search for
+     * @return true if element exists, false otherwise
+     */
+    public boolean contains(T element) {
+        return indexOf(element) != -1;
+    }
+
+    /**
+     * Returns the position of an element in the queue (1-based from front).
+     * Time Complexity: O(n)
+     *
+     * @param element the element to search for
+     * @return position from front (1-based), or -1 if not found
+     */
+    public int indexOf(T element) {
+        Chunk<T> current = front;
+        int position = 1;
+
+        while (current != null) {
+            int count = current.size();
+            for (int i = 0; i < count; i++) {
+                if (current.get(i).equals(element)) {
+                    return position;
+                }
+                position++;
+            }
+            current = current.getNext();
+        }
+        return -1;
+    }
+
+    /**
+     * Returns a string representation of the queue.
+     * Shows elements from front to rear.
+     * Time Complexity: O(n)
+     *
+     * @return string representation
+     */
+    @Override
+    public String toString() {
+        if (isEmpty()) {
+            return "Queue: [] (empty)";
+        }
+
+        StringBuilder sb = new StringBuilder("Queue (front to rear): [");
+        Chunk<T> current = front;
+        int written = 0;
+
+        while (current != null) {
+            int count = current.size();
+            for (int i = 0; i < count; i++) {
+                sb.append(current.get(i));
+                if (++written < size) {
+                    sb.append(" <- ");
+                }
+            }
+            current = current.getNext();
+        }
+        sb.append("]");
+        return sb.toString();
+    }
+
+    /**
+     * Converts the queue to an array.
+     * Time Complexity: O(n)
+     *
+     * @return array containing all elements in order
+     */
+    public Object[] toArray() {
+        Object[] array = new Object[size];
+        Chunk<T> current = front;
+        int index = 0;
+
+        while (current != null) {
+            int count = current.size();
+            for (int i = 0; i < count; i++) {
+                array[index++] = current.get(i);
+            }
+            current = current.getNext();
+        }
+        return array;
+    }
+
+    /**
+     * Returns the spare chunk if there is one, otherwise allocates a new chunk.
+     *
+     * @return an empty, unlinked chunk
+     */
+    private Chunk<T> newChunk() {
+        Chunk<T> chunk = spare;
+        if (chunk == null) {
+            return new Chunk<>(chunkSize);
+        }
+        spare = null;
+        return chunk;
+    }
+
+    /**
+     * Keeps an emptied chunk for reuse.
+     *
+     * @param chunk the emptied chunk
+     */
+    private void recycle(Chunk<T> chunk) {
+        chunk.reset();
+        spare = chunk;
+    }
+}
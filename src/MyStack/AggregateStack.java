@@ -0,0 +1,192 @@
+package MyStack;
+
+import Exeptions.StackOverflowException;
+import Exeptions.StackUnderflowException;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.BinaryOperator;
+
+/**
+ * A Stack that keeps a running aggregate of its elements.
+ * Next to each element it stores the combination of that element with
+ * everything below it, so aggregate() (the combination of the whole stack,
+ * bottom to top) is always available in O(1) without scanning.
+ *
+ * The combine function must be associative (min, max, sum, gcd, ...);
+ * it does not need to be commutative or have an identity.
+ * The array doubles when full and is not bounded by a fixed capacity.
+ *
+ * @param <T> the type of elements and of the aggregate
+ */
+public class AggregateStack<T> implements Stack<T> {
+    // Largest array size the JVM can reliably allocate
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final BinaryOperator<T> combine;
+    private Object[] elements;
+    private Object[] aggregates;  // aggregates[i] = elements[0] .. elements[i] combined
+    private int size;
+
+    /**
+     * Constructs an empty stack.
+     *
+     * @param combine associative function that combines (below, above) into one aggregate
+     * @throws NullPointerException if combine is null
+     */
+    public AggregateStack(BinaryOperator<T> combine) {
+        this.combine = Objects.requireNonNull(combine, "combine");
+        this.elements = new Object[INITIAL_CAPACITY];
+        this.aggregates = new Object[INITIAL_CAPACITY];
+        this.size = 0;
+    }
+
+    /**
+     * Pushes an element onto the top of the stack and extends the aggregate.
+     * Time Complexity: amortized O(1) plus one combine call
+     *
+     * @param element the element to push
+     * @throws StackOverflowException if the stack has reached the maximum array size
+     * @throws IllegalArgumentException if element is null
+     */
+    public void push(T element) {
+        if (element == null) {
+            throw new IllegalArgumentException("Cannot push null element");
+        }
+        if (size == elements.length) {
+            grow();
+        }
+        elements[size] = element;
+        aggregates[size] = size == 0 ? element : combine.apply(aggregateAt(size - 1), element);
+        size++;
+    }
+
+    /**
+     * Removes and returns the element at the top of the stack.
+     * The aggregate reverts to what it was before that element was pushed.
+     * Time Complexity: O(1)
+     *
+     * @return the element at the top of the stack
+     * @throws StackUnderflowException if the stack is empty
+     */
+    @SuppressWarnings("unchecked")
+    public T pop() {
+        if (isEmpty()) {
+            throw StackUnderflowException.of("Stack is empty. Cannot pop element.");
+        }
+        size--;
+        T element = (T) elements[size];
+        elements[size] = null;    // Help garbage collection
+        aggregates[size] = null;
+        return element;
+    }
+
+    /**
+     * Returns the element at the top of the stack without removing it.
+     * Time Complexity: O(1)
+     *
+     * @return the element at the top of the stack
+     * @throws StackUnderflowException if the stack is empty
+     */
+    @SuppressWarnings("unchecked")
+    public T peek() {
+        if (isEmpty()) {
+            throw StackUnderflowException.of("Stack is empty. Cannot peek.");
+        }
+        return (T) elements[size - 1];
+    }
+
+    /**
+     * Returns all elements combined, from bottom to top.
+     * Time Complexity: O(1)
+     *
+     * @return the aggregate of the whole stack
+     * @throws StackUnderflowException if the stack is empty
+     */
+    public T aggregate() {
+        if (isEmpty()) {
+            throw StackUnderflowException.of("Stack is empty. No aggregate.");
+        }
+        return aggregateAt(size - 1);
+    }
+
+    /**
+     * Returns the combine function of this stack.
+     *
+     * @return the combine function
+     */
+    public BinaryOperator<T> getCombine() {
+        return combine;
+    }
+
+    /**
+     * Checks if the stack is empty.
+     * Time Complexity: O(1)
+     *
+     * @return true if the stack is empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the current number of elements in the stack.
+     * Time Complexity: O(1)
+     *
+     * @return the number of elements
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes all elements from the stack.
+     * Time Complexity: O(n) - to help garbage collection
+     */
+    public void clear() {
+        Arrays.fill(elements, 0, size, null);
+        Arrays.fill(aggregates, 0, size, null);
+        size = 0;
+    }
+
+    /**
+     * Returns a string representation of the stack.
+     * Time Complexity: O(n)
+     *
+     * @return string representation showing all elements from bottom to top, and the aggregate
+     */
+    @Override
+    public String toString() {
+        if (isEmpty()) {
+            return "AggregateStack: []";
+        }
+        StringBuilder sb = new StringBuilder("AggregateStack: [");
+        for (int i = 0; i < size; i++) {
+            sb.append(elements[i]);
+            if (i < size - 1) {
+                sb.append(", ");
+            }
+        }
+        sb.append("] <- top, aggregate = ").append(aggregateAt(size - 1));
+        return sb.toString();
+    }
+
+    @SuppressWarnings("unchecked")
+    private T aggregateAt(int index) {
+        return (T) aggregates[index];
+    }
+
+    /**
+     * Doubles both arrays, capped at the maximum array size.
+     * Time Complexity: O(n)
+     */
+    private void grow() {
+        if (elements.length == MAX_CAPACITY) {
+            throw StackOverflowException.of("Stack is full. Cannot push element.");
+        }
+        int newCapacity = elements.length > MAX_CAPACITY / 2 ? MAX_CAPACITY : elements.length * 2;
+        elements = Arrays.copyOf(elements, newCapacity);
+        aggregates = Arrays.copyOf(aggregates, newCapacity);
+    }
+}
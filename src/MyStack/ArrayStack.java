@@ -2,39 +2,128 @@ package MyStack;
 
 import Exeptions.StackOverflowException;
 import Exeptions.StackUnderflowException;
+import common.CheckpointReader;
+import common.CheckpointWriter;
+import common.ElementSerializer;
+import common.OverflowPolicy;
+
+import java.io.IOException;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * A generic Stack implementation using an array.
  * Follows LIFO (Last In First Out) principle.
  *
+ * In elastic mode the array doubles when a push finds it full, and halves
+ * when a pop leaves it at most a quarter full (never below the initial
+ * capacity). The gap between the grow and shrink thresholds keeps a stack
+ * that oscillates around one size from resizing on every push/pop.
+ *
+ * A fixed-capacity stack can be given an OverflowPolicy: a push onto a
+ * full stack then drops the new element (DROP_NEWEST) or the bottom one
+ * (DROP_OLDEST), counting every drop, instead of throwing. For DROP_OLDEST
+ * the bottom index moves: the new top overwrites the old bottom's slot, so
+ * the elements form a ring in the array. Reads (peek, iteration, streams,
+ * writeTo, toString) walk the ring as it is; the bulk mutators (pushAll,
+ * popInto, drainTo, clear) first rotate a wrapped ring back to index 0,
+ * once, in O(n).
+ *
+ * Iteration, spliterators and streams run top to bottom (pop order) over
+ * the live array without copying it; the stack must not be modified meanwhile.
+ *
  * @param <T> the type of elements in this stack
  */
-public class ArrayStack<T> implements Stack<T> {
+public class ArrayStack<T> implements Stack<T>, Iterable<T> {
+    // Largest array size the JVM can reliably allocate
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
     private T[] stackArray;
-    private int top;
+    private int top;      // Logical index of the top element (size() - 1)
+    private int bottom;   // Array index of the bottom element; 0 unless DROP_OLDEST wrapped the ring
     private int capacity;
+    private final boolean elastic;   // Grow/shrink instead of overflowing
+    private final int minCapacity;   // Elastic mode never shrinks below this
+    private final OverflowPolicy overflowPolicy;
+    private final Consumer<? super T> onDrop;  // Receives dropped elements; may be null
+    private long droppedCount;
 
     /**
      * Constructs a stack with the specified capacity.
      *
      * @param capacity the maximum number of elements the stack can hold
-     * @throws IllegalArgumentException if capacity is less than 1
+     * @throws IllegalArgumentException if capacity is less than 1 or above the maximum array size
      */
-    @SuppressWarnings("unchecked")
     public ArrayStack(int capacity) {
-        if (capacity < 1) {
-            throw new IllegalArgumentException("Capacity must be at least 1");
+        this(capacity, false);
+    }
+
+    /**
+     * Constructs a stack with the specified capacity, optionally elastic.
+     *
+     * @param capacity the initial (and, in elastic mode, minimum) capacity
+     * @param elastic  true to grow and shrink the array instead of overflowing
+     * @throws IllegalArgumentException if capacity is less than 1 or above the maximum array size
+     */
+    public ArrayStack(int capacity, boolean elastic) {
+        this(capacity, elastic, OverflowPolicy.REJECT, null);
+    }
+
+    /**
+     * Constructs a fixed-capacity stack with an overflow policy.
+     *
+     * @param capacity the maximum number of elements the stack can hold
+     * @param policy   what a push onto a full stack does
+     * @throws IllegalArgumentException if capacity is less than 1 or above the maximum array size
+     */
+    public ArrayStack(int capacity, OverflowPolicy policy) {
+        this(capacity, false, policy, null);
+    }
+
+    /**
+     * Constructs a fixed-capacity stack with an overflow policy and a drop callback.
+     *
+     * @param capacity the maximum number of elements the stack can hold
+     * @param policy   what a push onto a full stack does
+     * @param onDrop   called with every element dropped by the policy (the new
+     *                 element for DROP_NEWEST, the old bottom for DROP_OLDEST)
+     * @throws IllegalArgumentException if capacity is less than 1 or above the maximum array size
+     */
+    public ArrayStack(int capacity, OverflowPolicy policy, Consumer<? super T> onDrop) {
+        this(capacity, false, policy, Objects.requireNonNull(onDrop, "onDrop"));
+    }
+
+    @SuppressWarnings("unchecked")
+    private ArrayStack(int capacity, boolean elastic, OverflowPolicy policy, Consumer<? super T> onDrop) {
+        if (capacity < 1 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Capacity must be between 1 and " + MAX_CAPACITY);
         }
         this.capacity = capacity;
+        this.minCapacity = capacity;
+        this.elastic = elastic;
+        this.overflowPolicy = Objects.requireNonNull(policy, "policy");
+        this.onDrop = onDrop;
         this.stackArray = (T[]) new Object[capacity];
         this.top = -1; // -1 indicates empty stack
+        this.bottom = 0;
     }
 
     /**
      * Pushes an element onto the top of the stack.
+     * If the stack is full, REJECT throws, DROP_NEWEST drops this element
+     * and DROP_OLDEST drops the bottom element to make room.
+     * Time Complexity: O(1), amortized O(1) in elastic mode
      *
      * @param element the element to push
-     * @throws StackOverflowException if the stack is full
+     * @throws StackOverflowException if the stack is full and the policy is REJECT
      * @throws IllegalArgumentException if element is null
      */
     public void push(T element) {
@@ -42,9 +131,36 @@ public class ArrayStack<T> implements Stack<T> {
             throw new IllegalArgumentException("Cannot push null element");
         }
         if (isFull()) {
-            throw new StackOverflowException("Stack is full. Cannot push element.");
+            if (overflowPolicy == OverflowPolicy.REJECT) {
+                throw StackOverflowException.of("Stack is full. Cannot push element.");
+            }
+            overflow(element);
+            return;
+        }
+        pushUnchecked(element);
+    }
+
+    /**
+     * Pushes an element onto the top of the stack if there is room.
+     * Same as push, but a full stack is reported by the return value
+     * instead of an exception.
+     * With DROP_OLDEST a full stack still takes the element, after dropping the bottom.
+     * Time Complexity: O(1), amortized O(1) in elastic mode
+     *
+     * @param element the element to push
+     * @return true if the element was pushed, false if the stack is full
+     *         (and, with DROP_NEWEST, the element was counted as dropped)
+     * @throws IllegalArgumentException if element is null
+     */
+    public boolean tryPush(T element) {
+        if (element == null) {
+            throw new IllegalArgumentException("Cannot push null element");
+        }
+        if (isFull()) {
+            return overflow(element);
         }
-        stackArray[++top] = element;
+        pushUnchecked(element);
+        return true;
     }
 
     /**
@@ -55,11 +171,23 @@ public class ArrayStack<T> implements Stack<T> {
      */
     public T pop() {
         if (isEmpty()) {
-            throw new StackUnderflowException("Stack is empty. Cannot pop element.");
+            throw StackUnderflowException.of("Stack is empty. Cannot pop element.");
         }
-        T element = stackArray[top];
-        stackArray[top--] = null; // Help garbage collection
-        return element;
+        return popUnchecked();
+    }
+
+    /**
+     * Removes and returns the element at the top of the stack, if any.
+     * Same as pop, but an empty stack is reported by returning null.
+     * Time Complexity: O(1)
+     *
+     * @return the element at the top of the stack, or null if the stack is empty
+     */
+    public T tryPop() {
+        if (isEmpty()) {
+            return null;
+        }
+        return popUnchecked();
     }
 
     /**
@@ -70,9 +198,19 @@ public class ArrayStack<T> implements Stack<T> {
      */
     public T peek() {
         if (isEmpty()) {
-            throw new StackUnderflowException("Stack is empty. Cannot peek.");
+            throw StackUnderflowException.of("Stack is empty. Cannot peek.");
         }
-        return stackArray[top];
+        return stackArray[slot(top)];
+    }
+
+    /**
+     * Returns the element at the top of the stack without removing it, if any.
+     * Time Complexity: O(1)
+     *
+     * @return the element at the top of the stack, or null if the stack is empty
+     */
+    public T peekOrNull() {
+        return isEmpty() ? null : stackArray[slot(top)];
     }
 
     /**
@@ -86,10 +224,14 @@ public class ArrayStack<T> implements Stack<T> {
 
     /**
      * Checks if the stack is full.
+     * An elastic stack is only full once it reaches the maximum array size.
      *
      * @return true if the stack is full, false otherwise
      */
     public boolean isFull() {
+        if (elastic) {
+            return top == MAX_CAPACITY - 1;
+        }
         return top == capacity - 1;
     }
 
@@ -103,7 +245,8 @@ public class ArrayStack<T> implements Stack<T> {
     }
 
     /**
-     * Returns the maximum capacity of the stack.
+     * Returns the capacity of the stack.
+     * In elastic mode this is the current array length, which changes as the stack grows and shrinks.
      *
      * @return the capacity
      */
@@ -111,12 +254,498 @@ public class ArrayStack<T> implements Stack<T> {
         return capacity;
     }
 
+    /**
+     * Checks if the stack grows and shrinks instead of overflowing.
+     *
+     * @return true if the stack is elastic, false otherwise
+     */
+    public boolean isElastic() {
+        return elastic;
+    }
+
+    /**
+     * Returns what the stack does with an element that finds it full.
+     *
+     * @return the overflow policy (REJECT unless one was given)
+     */
+    public OverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    /**
+     * Returns how many elements the overflow policy has dropped since the stack was created.
+     *
+     * @return the number of dropped elements
+     */
+    public long getDroppedCount() {
+        return droppedCount;
+    }
+
     /**
      * Removes all elements from the stack.
+     * An elastic stack also returns to its initial capacity.
      */
+    @SuppressWarnings("unchecked")
     public void clear() {
-        while (!isEmpty()) {
-            pop();
+        linearize();
+        Arrays.fill(stackArray, 0, top + 1, null); // Help garbage collection
+        top = -1;
+        if (elastic && capacity > minCapacity) {
+            stackArray = (T[]) new Object[minCapacity];
+            capacity = minCapacity;
+        }
+    }
+
+    /**
+     * Pushes all elements of an array, in array order (the last element ends up on top).
+     * Time Complexity: O(k) for k elements, copied with one bulk copy
+     *
+     * @param elements the elements to push
+     * @throws StackOverflowException if the stack does not have room for all of them and the policy is REJECT
+     * @throws IllegalArgumentException if any element is null
+     */
+    public void pushAll(T[] elements) {
+        pushAll(elements, 0, elements.length);
+    }
+
+    /**
+     * Pushes a slice of an array, in array order (the last element ends up on top).
+     * Either all elements are pushed or, if there is not enough room, none are;
+     * with DROP_NEWEST the elements that fit are pushed and the rest dropped.
+     * Time Complexity: O(k) for k elements, copied with one bulk copy
+     *
+     * @param elements the source array
+     * @param offset   index of the first element to push
+     * @param length   number of elements to push
+     * @throws StackOverflowException if the stack does not have room for all of them and the policy is REJECT
+     * @throws IllegalArgumentException if any element in the slice is null
+     * @throws IndexOutOfBoundsException if the slice is outside the array
+     */
+    public void pushAll(T[] elements, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, elements.length);
+        for (int i = offset; i < offset + length; i++) {
+            if (elements[i] == null) {
+                throw new IllegalArgumentException("Cannot push null element");
+            }
+        }
+        if (length > remainingCapacity()) {
+            if (overflowPolicy == OverflowPolicy.REJECT) {
+                throw StackOverflowException.of("Stack is full. Cannot push " + length + " elements.");
+            }
+            for (int i = offset; i < offset + length; i++) {
+                push(elements[i]);
+            }
+            return;
+        }
+        ensureCapacity(size() + length);  // Only grows in elastic mode
+        linearize();
+
+        System.arraycopy(elements, offset, stackArray, top + 1, length);
+        top += length;
+    }
+
+    /**
+     * Pops elements into an array, in pop order (the top element goes to index 0).
+     * Time Complexity: O(k) for k elements
+     *
+     * @param destination the array to fill from index 0
+     * @return the number of elements popped (0 if the stack is empty)
+     */
+    public int popInto(T[] destination) {
+        return popInto(destination, 0, destination.length);
+    }
+
+    /**
+     * Pops up to maxElements into an array, in pop order (the top element goes to destination[offset]).
+     * Time Complexity: O(k) for k elements
+     *
+     * @param destination the array to fill
+     * @param offset      index in destination of the first popped element
+     * @param maxElements maximum number of elements to pop
+     * @return the number of elements popped (0 if the stack is empty)
+     * @throws IndexOutOfBoundsException if the slice is outside the array
+     */
+    public int popInto(T[] destination, int offset, int maxElements) {
+        Objects.checkFromIndexSize(offset, maxElements, destination.length);
+        int count = Math.min(maxElements, size());
+        if (count == 0) {
+            return 0;
+        }
+
+        // Bulk copy the top segment, then reverse it in place into pop order
+        linearize();
+        int start = top - count + 1;
+        System.arraycopy(stackArray, start, destination, offset, count);
+        for (int i = offset, j = offset + count - 1; i < j; i++, j--) {
+            T swap = destination[i];
+            destination[i] = destination[j];
+            destination[j] = swap;
+        }
+
+        removeTop(count);
+        return count;
+    }
+
+    /**
+     * Pops up to maxElements and passes them to a consumer, in pop order.
+     * If the consumer throws, the elements it already received stay popped.
+     * Time Complexity: O(k) for k elements
+     *
+     * @param consumer    receives each popped element
+     * @param maxElements maximum number of elements to pop
+     * @return the number of elements popped (0 if the stack is empty)
+     * @throws IllegalArgumentException if maxElements is negative
+     */
+    public int drainTo(Consumer<? super T> consumer, int maxElements) {
+        if (maxElements < 0) {
+            throw new IllegalArgumentException("maxElements must not be negative");
+        }
+        int count = Math.min(maxElements, size());
+        int drained = 0;
+        linearize();
+
+        try {
+            for (int index = top; drained < count; index--) {
+                T element = stackArray[index];
+                drained++;
+                consumer.accept(element);
+            }
+        } finally {
+            removeTop(drained);
+        }
+        return drained;
+    }
+
+    /**
+     * Returns how many more elements can be pushed before the stack is full.
+     *
+     * @return the remaining capacity
+     */
+    public int remainingCapacity() {
+        return (elastic ? MAX_CAPACITY : capacity) - size();
+    }
+
+    /**
+     * Writes the stack to a channel as a binary checkpoint (see CheckpointWriter), top to bottom.
+     * Streams through a fixed-size direct buffer; the stack is not copied.
+     * Time Complexity: O(n)
+     *
+     * @param channel    the destination channel (not closed by this method)
+     * @param serializer encodes each element
+     * @throws IOException if writing to the channel fails
+     */
+    public void writeTo(WritableByteChannel channel, ElementSerializer<T> serializer) throws IOException {
+        CheckpointWriter<T> writer = new CheckpointWriter<>(channel, serializer, CheckpointWriter.STACK, size());
+        for (int i = top; i >= 0; i--) {
+            writer.write(stackArray[slot(i)]);
+        }
+        writer.finish();
+    }
+
+    /**
+     * Replaces the contents of the stack with a checkpoint written by writeTo.
+     * If reading fails the stack is left empty.
+     * Time Complexity: O(n)
+     *
+     * @param channel    the source channel (not closed by this method)
+     * @param serializer decodes each element
+     * @throws IOException if reading fails or the channel does not hold a stack checkpoint
+     * @throws StackOverflowException if the checkpoint holds more elements than the stack can
+     */
+    public void readFrom(ReadableByteChannel channel, ElementSerializer<T> serializer) throws IOException {
+        CheckpointReader<T> reader = new CheckpointReader<>(channel, serializer, CheckpointWriter.STACK);
+        long count = reader.getCount();
+        if (count > (elastic ? MAX_CAPACITY : capacity)) {
+            throw StackOverflowException.of("Stack is too small for a checkpoint of " + count + " elements.");
+        }
+        clear();
+        int length = (int) count;
+        ensureCapacity(length);  // Only grows in elastic mode
+
+        try {
+            // Records come top first: fill the array from the top index down
+            for (int i = length - 1; i >= 0; i--) {
+                stackArray[i] = reader.next();
+            }
+        } catch (IOException | RuntimeException e) {
+            Arrays.fill(stackArray, 0, length, null); // Help garbage collection
+            shrinkIfSparse();
+            throw e;
+        }
+        top = length - 1;
+    }
+
+    /**
+     * Applies the overflow policy to an element that found the stack full.
+     *
+     * @param element the element that did not fit (not null)
+     * @return true if the element was pushed (DROP_OLDEST), false otherwise
+     */
+    private boolean overflow(T element) {
+        switch (overflowPolicy) {
+            case DROP_NEWEST:
+                dropped(element);
+                return false;
+            case DROP_OLDEST:
+                // The new top takes the bottom's slot; the next element up becomes the bottom
+                T oldest = stackArray[bottom];
+                stackArray[bottom] = element;
+                bottom = bottom == capacity - 1 ? 0 : bottom + 1;
+                dropped(oldest);
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Counts a dropped element and hands it to the drop callback, if any.
+     */
+    private void dropped(T element) {
+        droppedCount++;
+        if (onDrop != null) {
+            onDrop.accept(element);
+        }
+    }
+
+    /**
+     * Stores an element on top; the caller has already checked isFull.
+     *
+     * @param element the element to push (not null)
+     */
+    private void pushUnchecked(T element) {
+        if (top == capacity - 1) {
+            grow();  // Only reachable in elastic mode
+        }
+        stackArray[slot(++top)] = element;
+    }
+
+    /**
+     * Removes the top element; the caller has already checked isEmpty.
+     *
+     * @return the element that was on top
+     */
+    private T popUnchecked() {
+        int index = slot(top--);
+        T element = stackArray[index];
+        stackArray[index] = null; // Help garbage collection
+        shrinkIfSparse();
+        return element;
+    }
+
+    /**
+     * Drops count elements from the top after they were copied out.
+     *
+     * @param count number of elements to drop (at most size())
+     */
+    private void removeTop(int count) {
+        Arrays.fill(stackArray, top - count + 1, top + 1, null); // Help garbage collection
+        top -= count;
+        shrinkIfSparse();
+    }
+
+    /**
+     * Maps a logical index (0 = bottom) to its array index.
+     * Without DROP_OLDEST the bottom stays at 0 and this is the identity.
+     */
+    private int slot(int logical) {
+        int index = bottom + logical;
+        return index >= capacity ? index - capacity : index;
+    }
+
+    /**
+     * Rotates a wrapped ring so the bottom is back at index 0, in place.
+     * Time Complexity: O(n) when wrapped, O(1) otherwise
+     */
+    private void linearize() {
+        if (bottom == 0) {
+            return;
+        }
+        // Rotating left by bottom = reversing both parts, then the whole array
+        reverse(0, bottom);
+        reverse(bottom, capacity);
+        reverse(0, capacity);
+        bottom = 0;
+    }
+
+    /**
+     * Reverses stackArray[from, to) in place.
+     */
+    private void reverse(int from, int to) {
+        for (int i = from, j = to - 1; i < j; i++, j--) {
+            T swap = stackArray[i];
+            stackArray[i] = stackArray[j];
+            stackArray[j] = swap;
+        }
+    }
+
+    /**
+     * Grows the array until it can hold the required number of elements.
+     *
+     * @param required the number of elements that must fit
+     */
+    private void ensureCapacity(int required) {
+        if (required <= capacity) {
+            return;
+        }
+        int newCapacity = capacity;
+        while (newCapacity < required) {
+            newCapacity = newCapacity > MAX_CAPACITY / 2 ? MAX_CAPACITY : newCapacity * 2;
+        }
+        resize(newCapacity);
+    }
+
+    /**
+     * Doubles the array, capped at the maximum array size.
+     * Time Complexity: O(n)
+     */
+    private void grow() {
+        int newCapacity = capacity > MAX_CAPACITY / 2 ? MAX_CAPACITY : capacity * 2;
+        resize(newCapacity);
+    }
+
+    /**
+     * Halves the array (repeatedly, after a bulk removal) while an elastic stack is at most a quarter full.
+     * Time Complexity: O(n) when it shrinks, O(1) otherwise
+     */
+    private void shrinkIfSparse() {
+        if (!elastic) {
+            return;
+        }
+        int newCapacity = capacity;
+        while (newCapacity > minCapacity && size() <= newCapacity / 4) {
+            newCapacity = Math.max(minCapacity, newCapacity / 2);
+        }
+        if (newCapacity != capacity) {
+            resize(newCapacity);
+        }
+    }
+
+    /**
+     * Moves the elements into a new array of the given length.
+     *
+     * @param newCapacity the new array length (at least size())
+     */
+    private void resize(int newCapacity) {
+        stackArray = Arrays.copyOf(stackArray, newCapacity);
+        capacity = newCapacity;
+    }
+
+    /**
+     * Returns an iterator over the elements from top to bottom.
+     * Time Complexity: O(1) to create, O(n) to traverse
+     *
+     * @return the iterator
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+            private int index = top;
+
+            @Override
+            public boolean hasNext() {
+                return index >= 0;
+            }
+
+            @Override
+            public T next() {
+                if (index < 0) {
+                    throw new NoSuchElementException();
+                }
+                return stackArray[slot(index--)];
+            }
+        };
+    }
+
+    /**
+     * Returns a spliterator over the elements from top to bottom, split by halves of the array.
+     * Characteristics: ORDERED, SIZED, SUBSIZED, NONNULL.
+     * Time Complexity: O(1) to create and to split
+     *
+     * @return the spliterator
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return new DescendingSpliterator<>(stackArray, bottom, 0, top + 1);
+    }
+
+    /**
+     * Returns a sequential stream of the elements from top to bottom.
+     *
+     * @return the stream
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Returns a parallel stream of the elements.
+     *
+     * @return the parallel stream
+     */
+    public Stream<T> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
+    /**
+     * Spliterator over logical indexes [low, high) in descending order, so the top comes first.
+     * Logical index i is at array index bottom + i, wrapped (bottom is 0 unless DROP_OLDEST wrapped the ring).
+     */
+    private static final class DescendingSpliterator<T> implements Spliterator<T> {
+        private final T[] array;
+        private final int bottom;  // Array index of logical index 0
+        private final int low;     // Lowest index, visited last
+        private int high;          // One past the next index to visit
+
+        DescendingSpliterator(T[] array, int bottom, int low, int high) {
+            this.array = array;
+            this.bottom = bottom;
+            this.low = low;
+            this.high = high;
+        }
+
+        private T at(int logical) {
+            int index = bottom + logical;
+            return array[index >= array.length ? index - array.length : index];
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (high <= low) {
+                return false;
+            }
+            action.accept(at(--high));
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            for (int i = high - 1; i >= low; i--) {
+                action.accept(at(i));
+            }
+            high = low;
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            int mid = (low + high) >>> 1;
+            if (mid <= low) {
+                return null;
+            }
+            // The upper half comes first in top-to-bottom order
+            Spliterator<T> prefix = new DescendingSpliterator<>(array, bottom, mid, high);
+            high = mid;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return high - low;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED | NONNULL;
         }
     }
 
@@ -132,7 +761,7 @@ public class ArrayStack<T> implements Stack<T> {
         }
         StringBuilder sb = new StringBuilder("Stack: [");
         for (int i = 0; i <= top; i++) {
-            sb.append(stackArray[i]);
+            sb.append(stackArray[slot(i)]);
             if (i < top) {
                 sb.append(", ");
             }
@@ -0,0 +1,257 @@
+package MyStack;
+
+import Exeptions.StackUnderflowException;
+import common.Node;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock-free Stack implementation using a linked list (Treiber stack).
+ * Same node chain as LinkedListStack, but top is swung with CAS so any
+ * number of threads can push and pop concurrently.
+ *
+ * When a CAS on top fails because of contention, the thread tries the
+ * elimination array before retrying: a pusher parks its node in a random
+ * slot for a short while, and a popper that finds a parked node takes it
+ * directly. The matched push/pop pair cancels out without touching top,
+ * so throughput keeps growing with the number of threads instead of
+ * collapsing on the single top reference.
+ *
+ * @param <T> the type of elements in this stack
+ */
+public class ConcurrentLinkedListStack<T> implements Stack<T> {
+    // How long a pusher waits in an elimination slot for a popper
+    private static final int ELIMINATION_SPINS = 64;
+
+    private final AtomicReference<Node<T>> top = new AtomicReference<>();
+    private final AtomicReferenceArray<Node<T>> eliminationSlots;
+    private final LongAdder size = new LongAdder();  // Striped: no single hot counter
+
+    /**
+     * Constructs an empty stack with one elimination slot per two available processors.
+     */
+    public ConcurrentLinkedListStack() {
+        this(Math.max(1, Runtime.getRuntime().availableProcessors() / 2));
+    }
+
+    /**
+     * Constructs an empty stack with the given number of elimination slots.
+     *
+     * @param eliminationWidth the number of elimination slots
+     * @throws IllegalArgumentException if eliminationWidth is less than 1
+     */
+    public ConcurrentLinkedListStack(int eliminationWidth) {
+        if (eliminationWidth < 1) {
+            throw new IllegalArgumentException("Elimination width must be at least 1");
+        }
+        this.eliminationSlots = new AtomicReferenceArray<>(eliminationWidth);
+    }
+
+    /**
+     * Pushes an element onto the top of the stack.
+     * Time Complexity: O(1), lock-free
+     *
+     * @param element the element to push
+     * @throws IllegalArgumentException if element is null
+     */
+    public void push(T element) {
+        if (element == null) {
+            throw new IllegalArgumentException("Cannot push null element");
+        }
+        Node<T> newNode = new Node<>(element);
+
+        while (true) {
+            Node<T> current = top.get();
+            newNode.setNext(current);
+            if (top.compareAndSet(current, newNode)) {
+                size.increment();
+                return;
+            }
+            // Contended: try to hand the node straight to a concurrent pop
+            if (tryEliminatePush(newNode)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Removes and returns the element at the top of the stack.
+     * Time Complexity: O(1), lock-free
+     *
+     * @return the element at the top of the stack
+     * @throws StackUnderflowException if the stack is empty
+     */
+    public T pop() {
+        T element = tryPop();
+        if (element == null) {
+            throw StackUnderflowException.of("Stack is empty. Cannot pop element.");
+        }
+        return element;
+    }
+
+    /**
+     * Removes and returns the element at the top of the stack, if any.
+     * Time Complexity: O(1), lock-free
+     *
+     * @return the element at the top of the stack, or null if the stack is empty
+     */
+    public T tryPop() {
+        while (true) {
+            Node<T> current = top.get();
+            if (current == null) {
+                return null;
+            }
+            if (top.compareAndSet(current, current.getNext())) {
+                size.decrement();
+                return current.getData();
+            }
+            // Contended: try to take a node parked by a concurrent push
+            T eliminated = tryEliminatePop();
+            if (eliminated != null) {
+                return eliminated;
+            }
+        }
+    }
+
+    /**
+     * Returns the element at the top of the stack without removing it.
+     * Time Complexity: O(1)
+     *
+     * @return the element at the top of the stack
+     * @throws StackUnderflowException if the stack is empty
+     */
+    public T peek() {
+        Node<T> current = top.get();
+        if (current == null) {
+            throw StackUnderflowException.of("Stack is empty. Cannot peek.");
+        }
+        return current.getData();
+    }
+
+    /**
+     * Checks if the stack is empty.
+     * Time Complexity: O(1)
+     *
+     * @return true if the stack is empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return top.get() == null;
+    }
+
+    /**
+     * Returns the current number of elements in the stack.
+     * Under concurrent pushes and pops this is an estimate.
+     * Time Complexity: O(number of counter stripes)
+     *
+     * @return the number of elements
+     */
+    public int size() {
+        return (int) Math.max(0, size.sum());
+    }
+
+    /**
+     * Removes all elements from the stack.
+     * The chain is detached atomically, then walked to fix the size counter.
+     * Time Complexity: O(n)
+     */
+    public void clear() {
+        Node<T> current = top.getAndSet(null);
+        long removed = 0;
+
+        while (current != null) {
+            removed++;
+            current = current.getNext();
+        }
+        size.add(-removed);
+    }
+
+    /**
+     * Searches for an element in the stack.
+     * Returns the 1-based position from the top (top = 1). Weakly
+     * consistent: concurrent pushes and pops may or may not be seen.
+     * Time Complexity: O(n)
+     *
+     * @param element the element to search for
+     * @return position from top (1-based), or -1 if not found
+     */
+    public int search(T element) {
+        Node<T> current = top.get();
+        int position = 1;
+
+        while (current != null) {
+            if (current.getData().equals(element)) {
+                return position;
+            }
+            current = current.getNext();
+            position++;
+        }
+        return -1;  // Not found
+    }
+
+    /**
+     * Returns a string representation of the stack.
+     * Shows elements from top to bottom.
+     * Time Complexity: O(n)
+     *
+     * @return string representation
+     */
+    @Override
+    public String toString() {
+        Node<T> current = top.get();
+        if (current == null) {
+            return "Stack: [] (empty)";
+        }
+
+        StringBuilder sb = new StringBuilder("Stack (top to bottom): [");
+
+        while (current != null) {
+            sb.append(current.getData());
+            if (current.getNext() != null) {
+                sb.append(" -> ");
+            }
+            current = current.getNext();
+        }
+        sb.append("]");
+        return sb.toString();
+    }
+
+    /**
+     * Parks a node in a random elimination slot and waits briefly for a popper to take it.
+     *
+     * @param node the node being pushed
+     * @return true if a popper took the node (the push is complete), false to retry on top
+     */
+    private boolean tryEliminatePush(Node<T> node) {
+        int slot = ThreadLocalRandom.current().nextInt(eliminationSlots.length());
+        if (!eliminationSlots.compareAndSet(slot, null, node)) {
+            return false;  // Slot busy
+        }
+
+        for (int spin = 0; spin < ELIMINATION_SPINS; spin++) {
+            if (eliminationSlots.get(slot) != node) {
+                return true;  // A popper took it
+            }
+            Thread.onSpinWait();
+        }
+
+        // Withdraw the offer; if that fails, a popper took it at the last moment
+        return !eliminationSlots.compareAndSet(slot, node, null);
+    }
+
+    /**
+     * Takes a node parked in a random elimination slot, if there is one.
+     *
+     * @return the eliminated element, or null if the slot was empty or lost to another popper
+     */
+    private T tryEliminatePop() {
+        int slot = ThreadLocalRandom.current().nextInt(eliminationSlots.length());
+        Node<T> node = eliminationSlots.get(slot);
+        if (node != null && eliminationSlots.compareAndSet(slot, node, null)) {
+            return node.getData();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,168 @@
+package MyStack;
+
+import Exeptions.StackOverflowException;
+import Exeptions.StackUnderflowException;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.DoubleBinaryOperator;
+
+/**
+ * A stack of primitive doubles that keeps a running aggregate.
+ * Same behavior as AggregateStack, but values and aggregates are stored
+ * unboxed in two double arrays: no Double allocation per push.
+ *
+ * The combine function must be associative, e.g. Double::sum, Math::min, Math::max.
+ * Floating-point addition is associative only up to rounding, so a sum
+ * aggregate can differ from a left-to-right sum in the last bits.
+ */
+public class DoubleAggregateStack {
+    // Largest array size the JVM can reliably allocate
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final DoubleBinaryOperator combine;
+    private double[] values;
+    private double[] aggregates;  // aggregates[i] = values[0] .. values[i] combined
+    private int size;
+
+    /**
+     * Constructs an empty stack.
+     *
+     * @param combine associative function that combines (below, above) into one aggregate
+     * @throws NullPointerException if combine is null
+     */
+    public DoubleAggregateStack(DoubleBinaryOperator combine) {
+        this.combine = Objects.requireNonNull(combine, "combine");
+        this.values = new double[INITIAL_CAPACITY];
+        this.aggregates = new double[INITIAL_CAPACITY];
+        this.size = 0;
+    }
+
+    /**
+     * Pushes a value onto the top of the stack and extends the aggregate.
+     * Time Complexity: amortized O(1) plus one combine call
+     *
+     * @param value the value to push
+     * @throws StackOverflowException if the stack has reached the maximum array size
+     */
+    public void push(double value) {
+        if (size == values.length) {
+            grow();
+        }
+        values[size] = value;
+        aggregates[size] = size == 0 ? value : combine.applyAsDouble(aggregates[size - 1], value);
+        size++;
+    }
+
+    /**
+     * Removes and returns the value at the top of the stack.
+     * Time Complexity: O(1)
+     *
+     * @return the value at the top of the stack
+     * @throws StackUnderflowException if the stack is empty
+     */
+    public double pop() {
+        if (isEmpty()) {
+            throw StackUnderflowException.of("Stack is empty. Cannot pop element.");
+        }
+        return values[--size];
+    }
+
+    /**
+     * Returns the value at the top of the stack without removing it.
+     * Time Complexity: O(1)
+     *
+     * @return the value at the top of the stack
+     * @throws StackUnderflowException if the stack is empty
+     */
+    public double peek() {
+        if (isEmpty()) {
+            throw StackUnderflowException.of("Stack is empty. Cannot peek.");
+        }
+        return values[size - 1];
+    }
+
+    /**
+     * Returns all values combined, from bottom to top.
+     * Time Complexity: O(1)
+     *
+     * @return the aggregate of the whole stack
+     * @throws StackUnderflowException if the stack is empty
+     */
+    public double aggregate() {
+        if (isEmpty()) {
+            throw StackUnderflowException.of("Stack is empty. No aggregate.");
+        }
+        return aggregates[size - 1];
+    }
+
+    /**
+     * Returns the combine function of this stack.
+     *
+     * @return the combine function
+     */
+    public DoubleBinaryOperator getCombine() {
+        return combine;
+    }
+
+    /**
+     * Checks if the stack is empty.
+     *
+     * @return true if the stack is empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the current number of elements in the stack.
+     *
+     * @return the number of elements
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes all elements from the stack.
+     * Time Complexity: O(1)
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Returns a string representation of the stack.
+     *
+     * @return string representation showing all values from bottom to top, and the aggregate
+     */
+    @Override
+    public String toString() {
+        if (isEmpty()) {
+            return "DoubleAggregateStack: []";
+        }
+        StringBuilder sb = new StringBuilder("DoubleAggregateStack: [");
+        for (int i = 0; i < size; i++) {
+            sb.append(values[i]);
+            if (i < size - 1) {
+                sb.append(", ");
+            }
+        }
+        sb.append("] <- top, aggregate = ").append(aggregates[size - 1]);
+        return sb.toString();
+    }
+
+    /**
+     * Doubles both arrays, capped at the maximum array size.
+     * Time Complexity: O(n)
+     */
+    private void grow() {
+        if (values.length == MAX_CAPACITY) {
+            throw StackOverflowException.of("Stack is full. Cannot push element.");
+        }
+        int newCapacity = values.length > MAX_CAPACITY / 2 ? MAX_CAPACITY : values.length * 2;
+        values = Arrays.copyOf(values, newCapacity);
+        aggregates = Arrays.copyOf(aggregates, newCapacity);
+    }
+}
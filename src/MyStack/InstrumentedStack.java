@@ -0,0 +1,224 @@
+package MyStack;
+
+import Exeptions.StackOverflowException;
+import Exeptions.StackUnderflowException;
+import Exeptions.UnderflowException;
+import common.OverflowPolicy;
+import common.StructureMetrics;
+
+/**
+ * A Stack decorator that records StructureMetrics for any Stack.
+ * Counts pushes, pops, peeks, overflows and underflows, tracks the
+ * high-water mark and occupancy, and measures how long each element stays
+ * on the stack (its sojourn time) by keeping a push timestamp beside it.
+ *
+ * Instrumentation is off unless the JVM runs with -Dcommon.metrics=true.
+ * When off, every method is a plain call to the wrapped stack.
+ *
+ * Not thread-safe even when the wrapped stack is: the timestamps are kept
+ * in a separate, unsynchronized stack. Elements already on the wrapped
+ * stack when it was wrapped have no timestamp and are not timed.
+ *
+ * A push that leaves the size unchanged was absorbed by an overflow policy
+ * (see OverflowPolicy) and is recorded as an overflow. If the wrapped
+ * ArrayStack drops its bottom (DROP_OLDEST), the bottom's timestamp is
+ * marked stale (removing it from the bottom of the timestamp stack would
+ * shift it) and stale timestamps are compacted away in amortized O(1);
+ * otherwise the new element was dropped and gets no timestamp.
+ *
+ * @param <T> the type of elements in this stack
+ */
+public class InstrumentedStack<T> implements Stack<T> {
+    private final Stack<T> delegate;
+    private final String name;
+    private final StructureMetrics metrics;  // null when disabled
+    private StructureMetrics idleMetrics;    // All-zero metrics, created by getMetrics() when disabled
+    private final LongArrayStack pushTimes;  // Push time of each timed element; null when disabled
+    private final boolean dropsOldest;       // The delegate overwrites its bottom when full
+    private int staleTimes;  // Timestamps at the bottom of pushTimes whose elements were dropped
+
+    /**
+     * Wraps a stack.
+     *
+     * @param delegate the stack to instrument; use it only through this wrapper from now on
+     * @param name     the name reported in JMX and JFR
+     * @throws IllegalArgumentException if delegate or name is null
+     */
+    public InstrumentedStack(Stack<T> delegate, String name) {
+        if (delegate == null) {
+            throw new IllegalArgumentException("Stack cannot be null");
+        }
+        this.delegate = delegate;
+        if (name == null) {
+            throw new IllegalArgumentException("Name cannot be null");
+        }
+        this.name = name;
+        // When disabled, wrapping allocates no metrics (and no histograms) at all
+        this.metrics = StructureMetrics.ENABLED ? new StructureMetrics(name) : null;
+        this.pushTimes = StructureMetrics.ENABLED ? new LongArrayStack(16, true) : null;
+        this.dropsOldest = delegate instanceof ArrayStack
+                && ((ArrayStack<T>) delegate).getOverflowPolicy() == OverflowPolicy.DROP_OLDEST;
+    }
+
+    /**
+     * Pushes an element onto the top of the stack.
+     * Time Complexity: same as the wrapped stack
+     *
+     * @param element the element to push
+     * @throws StackOverflowException if the wrapped stack is full
+     */
+    public void push(T element) {
+        if (!StructureMetrics.ENABLED) {
+            delegate.push(element);
+            return;
+        }
+        int sizeBefore = delegate.size();
+        try {
+            delegate.push(element);
+        } catch (StackOverflowException e) {
+            metrics.recordOverflow(sizeBefore);
+            throw e;
+        }
+        if (delegate.size() == sizeBefore) {
+            // Full, and the overflow policy dropped an element instead of throwing
+            metrics.recordOverflow(sizeBefore);
+            if (!dropsOldest) {
+                return;  // The new element was dropped: nothing to time
+            }
+            if (pushTimes.size() - staleTimes == sizeBefore) {
+                staleTimes++;  // Every element was timed, so the dropped bottom was too
+            }
+        }
+        pushTimes.push(System.nanoTime());
+        if (staleTimes > 16 && staleTimes > pushTimes.size() / 2) {
+            compactPushTimes();
+        }
+        metrics.recordInsert(delegate.size());
+    }
+
+    /**
+     * Removes and returns the element at the top of the stack.
+     * Time Complexity: same as the wrapped stack
+     *
+     * @return the element at the top of the stack
+     * @throws StackUnderflowException if the stack is empty
+     */
+    public T pop() {
+        if (!StructureMetrics.ENABLED) {
+            return delegate.pop();
+        }
+        T element;
+        try {
+            element = delegate.pop();
+        } catch (UnderflowException e) {  // Either underflow type: some stacks are also queues
+            metrics.recordUnderflow();
+            throw e;
+        }
+        // Elements below the ones pushed through this wrapper were never timed
+        long sojourn = pushTimes.size() == staleTimes ? -1 : System.nanoTime() - pushTimes.pop();
+        if (pushTimes.size() == staleTimes && staleTimes > 0) {
+            pushTimes.clear();  // Only stale timestamps left
+            staleTimes = 0;
+        }
+        metrics.recordRemove(delegate.size(), sojourn);
+        return element;
+    }
+
+    /**
+     * Returns the element at the top of the stack without removing it.
+     * Time Complexity: same as the wrapped stack
+     *
+     * @return the element at the top of the stack
+     * @throws StackUnderflowException if the stack is empty
+     */
+    public T peek() {
+        if (!StructureMetrics.ENABLED) {
+            return delegate.peek();
+        }
+        try {
+            T element = delegate.peek();
+            metrics.recordPeek();
+            return element;
+        } catch (UnderflowException e) {  // Either underflow type: some stacks are also queues
+            metrics.recordUnderflow();
+            throw e;
+        }
+    }
+
+    /**
+     * Checks if the stack is empty.
+     * Time Complexity: same as the wrapped stack
+     *
+     * @return true if the stack is empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return delegate.isEmpty();
+    }
+
+    /**
+     * Returns the current number of elements in the stack.
+     * Time Complexity: same as the wrapped stack
+     *
+     * @return the number of elements
+     */
+    public int size() {
+        return delegate.size();
+    }
+
+    /**
+     * Removes all elements from the stack.
+     * Time Complexity: same as the wrapped stack
+     */
+    public void clear() {
+        delegate.clear();
+        if (StructureMetrics.ENABLED) {
+            pushTimes.clear();
+            staleTimes = 0;
+            metrics.recordClear();
+        }
+    }
+
+    /**
+     * Returns the metrics recorded for this stack (all zero when instrumentation is off).
+     * When off, the all-zero metrics are only created by the first call.
+     *
+     * @return the metrics
+     */
+    public StructureMetrics getMetrics() {
+        if (metrics != null) {
+            return metrics;
+        }
+        synchronized (this) {
+            if (idleMetrics == null) {
+                idleMetrics = new StructureMetrics(name);
+            }
+            return idleMetrics;
+        }
+    }
+
+    /**
+     * Rebuilds pushTimes without the stale timestamps at its bottom.
+     * Time Complexity: O(n)
+     */
+    private void compactPushTimes() {
+        long[] live = new long[pushTimes.size() - staleTimes];
+        for (int i = live.length - 1; i >= 0; i--) {
+            live[i] = pushTimes.pop();
+        }
+        pushTimes.clear();
+        for (long time : live) {
+            pushTimes.push(time);
+        }
+        staleTimes = 0;
+    }
+
+    /**
+     * Returns the wrapped stack's string representation.
+     *
+     * @return string representation
+     */
+    @Override
+    public String toString() {
+        return delegate.toString();
+    }
+}
@@ -0,0 +1,224 @@
+package MyStack;
+
+import Exeptions.StackOverflowException;
+import Exeptions.StackUnderflowException;
+import common.PrimitiveSearch;
+
+import java.util.Arrays;
+
+/**
+ * A Stack of primitive ints using an int array.
+ * Same behavior as ArrayStack (including elastic mode), but values are
+ * stored unboxed: no Integer allocation per push and 4 bytes per element
+ * instead of a reference plus an Integer object.
+ */
+public class IntArrayStack {
+    // Largest array size the JVM can reliably allocate
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+    private int[] stackArray;
+    private int top;
+    private int capacity;
+    private final boolean elastic;   // Grow/shrink instead of overflowing
+    private final int minCapacity;   // Elastic mode never shrinks below this
+
+    /**
+     * Constructs a stack with the specified capacity.
+     *
+     * @param capacity the maximum number of elements the stack can hold
+     * @throws IllegalArgumentException if capacity is less than 1 or above the maximum array size
+     */
+    public IntArrayStack(int capacity) {
+        this(capacity, false);
+    }
+
+    /**
+     * Constructs a stack with the specified capacity, optionally elastic.
+     *
+     * @param capacity the initial (and, in elastic mode, minimum) capacity
+     * @param elastic  true to grow and shrink the array instead of overflowing
+     * @throws IllegalArgumentException if capacity is less than 1 or above the maximum array size
+     */
+    public IntArrayStack(int capacity, boolean elastic) {
+        if (capacity < 1 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Capacity must be between 1 and " + MAX_CAPACITY);
+        }
+        this.capacity = capacity;
+        this.minCapacity = capacity;
+        this.elastic = elastic;
+        this.stackArray = new int[capacity];
+        this.top = -1; // -1 indicates empty stack
+    }
+
+    /**
+     * Pushes a value onto the top of the stack.
+     * Time Complexity: O(1), amortized O(1) in elastic mode
+     *
+     * @param value the value to push
+     * @throws StackOverflowException if the stack is full
+     */
+    public void push(int value) {
+        if (isFull()) {
+            throw StackOverflowException.of("Stack is full. Cannot push element.");
+        }
+        if (top == capacity - 1) {
+            grow();  // Only reachable in elastic mode
+        }
+        stackArray[++top] = value;
+    }
+
+    /**
+     * Removes and returns the value at the top of the stack.
+     *
+     * @return the value at the top of the stack
+     * @throws StackUnderflowException if the stack is empty
+     */
+    public int pop() {
+        if (isEmpty()) {
+            throw StackUnderflowException.of("Stack is empty. Cannot pop element.");
+        }
+        int value = stackArray[top--];
+        shrinkIfSparse();
+        return value;
+    }
+
+    /**
+     * Returns the value at the top of the stack without removing it.
+     *
+     * @return the value at the top of the stack
+     * @throws StackUnderflowException if the stack is empty
+     */
+    public int peek() {
+        if (isEmpty()) {
+            throw StackUnderflowException.of("Stack is empty. Cannot peek.");
+        }
+        return stackArray[top];
+    }
+
+    /**
+     * Checks if the stack is empty.
+     *
+     * @return true if the stack is empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return top == -1;
+    }
+
+    /**
+     * Checks if the stack is full.
+     * An elastic stack is only full once it reaches the maximum array size.
+     *
+     * @return true if the stack is full, false otherwise
+     */
+    public boolean isFull() {
+        if (elastic) {
+            return top == MAX_CAPACITY - 1;
+        }
+        return top == capacity - 1;
+    }
+
+    /**
+     * Returns the current number of elements in the stack.
+     *
+     * @return the number of elements
+     */
+    public int size() {
+        return top + 1;
+    }
+
+    /**
+     * Returns the capacity of the stack.
+     * In elastic mode this is the current array length, which changes as the stack grows and shrinks.
+     *
+     * @return the capacity
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Checks if the stack grows and shrinks instead of overflowing.
+     *
+     * @return true if the stack is elastic, false otherwise
+     */
+    public boolean isElastic() {
+        return elastic;
+    }
+
+    /**
+     * Removes all elements from the stack.
+     * An elastic stack also returns to its initial capacity.
+     * Time Complexity: O(1)
+     */
+    public void clear() {
+        top = -1;
+        if (elastic && capacity > minCapacity) {
+            stackArray = new int[minCapacity];
+            capacity = minCapacity;
+        }
+    }
+
+    /**
+     * Searches for a value in the stack.
+     * Returns the 1-based position from the top (top = 1).
+     * Uses SIMD compares via PrimitiveSearch when the Vector API is available.
+     * Time Complexity: O(n)
+     *
+     * @param value the value to search for
+     * @return position from top (1-based), or -1 if not found
+     */
+    public int search(int value) {
+        int index = PrimitiveSearch.lastIndexOf(stackArray, 0, top + 1, value);
+        return index >= 0 ? top - index + 1 : -1;
+    }
+
+    /**
+     * Returns a string representation of the stack.
+     *
+     * @return string representation showing all elements from bottom to top
+     */
+    @Override
+    public String toString() {
+        if (isEmpty()) {
+            return "Stack: []";
+        }
+        StringBuilder sb = new StringBuilder("Stack: [");
+        for (int i = 0; i <= top; i++) {
+            sb.append(stackArray[i]);
+            if (i < top) {
+                sb.append(", ");
+            }
+        }
+        sb.append("] <- top");
+        return sb.toString();
+    }
+
+    /**
+     * Doubles the array, capped at the maximum array size.
+     * Time Complexity: O(n)
+     */
+    private void grow() {
+        int newCapacity = capacity > MAX_CAPACITY / 2 ? MAX_CAPACITY : capacity * 2;
+        resize(newCapacity);
+    }
+
+    /**
+     * Halves the array when an elastic stack is at most a quarter full.
+     * Time Complexity: O(n) when it shrinks, O(1) otherwise
+     */
+    private void shrinkIfSparse() {
+        if (elastic && capacity > minCapacity && size() <= capacity / 4) {
+            resize(Math.max(minCapacity, capacity / 2));
+        }
+    }
+
+    /**
+     * Moves the elements into a new array of the given length.
+     *
+     * @param newCapacity the new array length (at least size())
+     */
+    private void resize(int newCapacity) {
+        stackArray = Arrays.copyOf(stackArray, newCapacity);
+        capacity = newCapacity;
+    }
+}
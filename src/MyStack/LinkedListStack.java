@@ -1,19 +1,37 @@
 package MyStack;
 
 import Exeptions.StackUnderflowException;
+import common.CheckpointReader;
+import common.CheckpointWriter;
+import common.ElementSerializer;
+import common.HashIndex;
 import common.Node;
 
+import java.io.IOException;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
 /**
  * A generic Stack implementation using Linked List.
  * Follows LIFO (Last In First Out) principle.
  * Dynamic size - no capacity limit.
+ * Iteration and streams run top to bottom (pop order).
  *
  * @param <T> the type of elements in this stack
  */
-public class LinkedListStack<T> implements Stack<T> {
+public class LinkedListStack<T> implements Stack<T>, Iterable<T> {
     private Node<T> top;
     private int size;
 
+    // Indexed mode: element -> depths from the bottom; null when disabled
+    private HashIndex<T> hashIndex;
+
     /**
      * Constructs an empty stack.
      */
@@ -36,6 +54,9 @@ public class LinkedListStack<T> implements Stack<T> {
         // Create new node and link it to current top
         Node<T> newNode = new Node<T>(element, top);
         top = newNode;
+        if (hashIndex != null) {
+            hashIndex.add(element, size);
+        }
         size++;
     }
 
@@ -48,10 +69,41 @@ public class LinkedListStack<T> implements Stack<T> {
      */
     public T pop() {
         if (isEmpty()) {
-            throw new StackUnderflowException("Stack is empty. Cannot pop element.");
+            throw StackUnderflowException.of("Stack is empty. Cannot pop element.");
+        }
+        return tryPop();
+    }
+
+    /**
+     * Pushes an element onto the top of the stack.
+     * The stack is unbounded, so this always succeeds.
+     * Time Complexity: O(1)
+     *
+     * @param element the element to push
+     * @return true
+     * @throws IllegalArgumentException if element is null
+     */
+    public boolean tryPush(T element) {
+        push(element);
+        return true;
+    }
+
+    /**
+     * Removes and returns the element at the top of the stack, if any.
+     * Same as pop, but an empty stack is reported by returning null.
+     * Time Complexity: O(1)
+     *
+     * @return the element at the top of the stack, or null if the stack is empty
+     */
+    public T tryPop() {
+        if (isEmpty()) {
+            return null;
         }
         T data = top.getData();
         top = top.getNext();  // Move top to next node
+        if (hashIndex != null) {
+            hashIndex.removeNewest(data);
+        }
         size--;
         return data;
     }
@@ -65,11 +117,21 @@ public class LinkedListStack<T> implements Stack<T> {
      */
     public T peek() {
         if (isEmpty()) {
-            throw new StackUnderflowException("Stack is empty. Cannot peek.");
+            throw StackUnderflowException.of("Stack is empty. Cannot peek.");
         }
         return top.getData();
     }
 
+    /**
+     * Returns the element at the top of the stack without removing it, if any.
+     * Time Complexity: O(1)
+     *
+     * @return the element at the top of the stack, or null if the stack is empty
+     */
+    public T peekOrNull() {
+        return isEmpty() ? null : top.getData();
+    }
+
     /**
      * Checks if the stack is empty.
      * Time Complexity: O(1)
@@ -97,17 +159,73 @@ public class LinkedListStack<T> implements Stack<T> {
     public void clear() {
         top = null;
         size = 0;
+        if (hashIndex != null) {
+            hashIndex.clear();
+        }
+    }
+
+    /**
+     * Turns on indexed mode: search becomes an O(1) hash lookup,
+     * at the cost of a HashMap update on every push and pop.
+     * Does nothing if the stack is already indexed.
+     * Time Complexity: O(n) to index the current elements
+     */
+    public void enableIndex() {
+        if (hashIndex == null) {
+            hashIndex = new HashIndex<>();
+            rebuildIndex();
+        }
+    }
+
+    /**
+     * Turns off indexed mode and releases the index; search scans again.
+     * Time Complexity: O(1)
+     */
+    public void disableIndex() {
+        hashIndex = null;
+    }
+
+    /**
+     * Checks if indexed mode is on.
+     * Time Complexity: O(1)
+     *
+     * @return true if search uses the hash index
+     */
+    public boolean isIndexed() {
+        return hashIndex != null;
+    }
+
+    /**
+     * Re-indexes every element by its depth from the bottom (bottom = 0).
+     */
+    @SuppressWarnings("unchecked")
+    private void rebuildIndex() {
+        hashIndex.clear();
+
+        // Positions must be added bottom-up, but the list runs top-down
+        Object[] elements = new Object[size];
+        int i = size;
+        for (Node<T> current = top; current != null; current = current.getNext()) {
+            elements[--i] = current.getData();
+        }
+        for (i = 0; i < size; i++) {
+            hashIndex.add((T) elements[i], i);
+        }
     }
 
     /**
      * Searches for an element in the stack.
      * Returns the 1-based position from the top (top = 1).
-     * Time Complexity: O(n)
+     * Time Complexity: O(n), O(1) expected in indexed mode
      *
      * @param element the element to search for
      * @return position from top (1-based), or -1 if not found
      */
     public int search(T element) {
+        if (hashIndex != null) {
+            long depth = hashIndex.newestPosition(element);
+            return depth < 0 ? -1 : size - (int) depth;
+        }
         Node<T> current = top;
         int position = 1;
 
@@ -149,8 +267,119 @@ public class LinkedListStack<T> implements Stack<T> {
     }
 
 
+    /**
+     * Returns an iterator over the elements from top to bottom.
+     * Time Complexity: O(1) to create, O(n) to traverse
+     *
+     * @return the iterator
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+            private Node<T> current = top;
+
+            @Override
+            public boolean hasNext() {
+                return current != null;
+            }
+
+            @Override
+            public T next() {
+                if (current == null) {
+                    throw new NoSuchElementException();
+                }
+                T data = current.getData();
+                current = current.getNext();
+                return data;
+            }
+        };
+    }
+
+    /**
+     * Returns a spliterator over the elements from top to bottom.
+     * A linked list cannot be split without walking it, so splits hand out
+     * batches of nodes copied into arrays (the JDK's iterator spliterator).
+     * Characteristics: ORDERED, SIZED, NONNULL.
+     *
+     * @return the spliterator
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return Spliterators.spliterator(iterator(), size, Spliterator.ORDERED | Spliterator.NONNULL);
+    }
+
+    /**
+     * Returns a sequential stream of the elements from top to bottom.
+     *
+     * @return the stream
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Returns a parallel stream of the elements.
+     *
+     * @return the parallel stream
+     */
+    public Stream<T> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
+    /**
+     * Writes the stack to a channel as a binary checkpoint (see CheckpointWriter), top to bottom.
+     * Streams through a fixed-size direct buffer; the stack is not copied.
+     * Time Complexity: O(n)
+     *
+     * @param channel    the destination channel (not closed by this method)
+     * @param serializer encodes each element
+     * @throws IOException if writing to the channel fails
+     */
+    public void writeTo(WritableByteChannel channel, ElementSerializer<T> serializer) throws IOException {
+        CheckpointWriter<T> writer = new CheckpointWriter<>(channel, serializer, CheckpointWriter.STACK, size);
+        for (Node<T> current = top; current != null; current = current.getNext()) {
+            writer.write(current.getData());
+        }
+        writer.finish();
+    }
+
+    /**
+     * Replaces the contents of the stack with a checkpoint written by writeTo.
+     * If reading fails the stack is left empty.
+     * Time Complexity: O(n)
+     *
+     * @param channel    the source channel (not closed by this method)
+     * @param serializer decodes each element
+     * @throws IOException if reading fails or the channel does not hold a stack checkpoint
+     */
+    public void readFrom(ReadableByteChannel channel, ElementSerializer<T> serializer) throws IOException {
+        CheckpointReader<T> reader = new CheckpointReader<>(channel, serializer, CheckpointWriter.STACK);
+        clear();
+        try {
+            // Records come top first: append each one below the previous
+            Node<T> last = null;
+            while (reader.hasNext()) {
+                Node<T> node = new Node<>(reader.next());
+                if (last == null) {
+                    top = node;
+                } else {
+                    last.setNext(node);
+                }
+                last = node;
+                size++;
+            }
+        } catch (IOException | RuntimeException e) {
+            clear();
+            throw e;
+        }
+        if (hashIndex != null) {
+            rebuildIndex();
+        }
+    }
+
     /**
      * Reverses the stack in place.
+     * In indexed mode the index is rebuilt for the new order.
      * Time Complexity: O(n)
      */
     public void reverse() {
@@ -169,6 +398,10 @@ public class LinkedListStack<T> implements Stack<T> {
             current = next;
         }
         top = prev;
+
+        if (hashIndex != null) {
+            rebuildIndex();
+        }
     }
 }
 
@@ -0,0 +1,176 @@
+package MyStack;
+
+import Exeptions.StackUnderflowException;
+
+/**
+ * An immutable Stack implemented as a singly linked (cons) list.
+ * push and pop never change a stack: they return a new version that shares
+ * every existing node with the old one, so both versions stay valid and
+ * each operation allocates at most one node.
+ *
+ * Because no version ever changes, a stack can be handed to other threads
+ * as a snapshot without copying and read without locks (all fields are
+ * final, so publishing the reference is enough).
+ *
+ * @param <T> the type of elements in this stack
+ */
+public final class PersistentStack<T> {
+    private static final PersistentStack<?> EMPTY = new PersistentStack<>(null, null, 0);
+
+    private final T top;
+    private final PersistentStack<T> rest;  // The stack below top, shared with older versions
+    private final int size;
+
+    private PersistentStack(T top, PersistentStack<T> rest, int size) {
+        this.top = top;
+        this.rest = rest;
+        this.size = size;
+    }
+
+    /**
+     * Returns the empty stack.
+     * Time Complexity: O(1)
+     *
+     * @param <T> the type of elements
+     * @return the empty stack (one shared instance)
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> PersistentStack<T> empty() {
+        return (PersistentStack<T>) EMPTY;
+    }
+
+    /**
+     * Returns a stack with an element added on top of this one.
+     * Time Complexity: O(1)
+     *
+     * @param element the element to push
+     * @return the new stack; this stack is unchanged
+     * @throws IllegalArgumentException if element is null
+     */
+    public PersistentStack<T> push(T element) {
+        if (element == null) {
+            throw new IllegalArgumentException("Cannot push null element");
+        }
+        return new PersistentStack<>(element, this, size + 1);
+    }
+
+    /**
+     * Returns this stack without its top element.
+     * Time Complexity: O(1)
+     *
+     * @return the stack below the top; this stack is unchanged
+     * @throws StackUnderflowException if the stack is empty
+     */
+    public PersistentStack<T> pop() {
+        if (isEmpty()) {
+            throw StackUnderflowException.of("Stack is empty. Cannot pop element.");
+        }
+        return rest;
+    }
+
+    /**
+     * Returns the element at the top of the stack.
+     * Time Complexity: O(1)
+     *
+     * @return the element at the top of the stack
+     * @throws StackUnderflowException if the stack is empty
+     */
+    public T peek() {
+        if (isEmpty()) {
+            throw StackUnderflowException.of("Stack is empty. Cannot peek.");
+        }
+        return top;
+    }
+
+    /**
+     * Checks if the stack is empty.
+     * Time Complexity: O(1)
+     *
+     * @return true if the stack is empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of elements in the stack.
+     * Time Complexity: O(1)
+     *
+     * @return the number of elements
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns a stack with the elements in reverse order.
+     * Time Complexity: O(n) - a reversed stack shares no nodes with this one
+     *
+     * @return the reversed stack; this stack is unchanged
+     */
+    public PersistentStack<T> reverse() {
+        PersistentStack<T> reversed = empty();
+        for (PersistentStack<T> current = this; !current.isEmpty(); current = current.rest) {
+            reversed = reversed.push(current.top);
+        }
+        return reversed;
+    }
+
+    /**
+     * Searches for an element in the stack.
+     * Returns the 1-based position from the top (top = 1).
+     * Time Complexity: O(n)
+     *
+     * @param element the element to search for
+     * @return position from top (1-based), or -1 if not found
+     */
+    public int search(T element) {
+        int position = 1;
+        for (PersistentStack<T> current = this; !current.isEmpty(); current = current.rest) {
+            if (current.top.equals(element)) {
+                return position;
+            }
+            position++;
+        }
+        return -1;  // Not found
+    }
+
+    /**
+     * Converts the stack to an array, from top to bottom.
+     * Time Complexity: O(n)
+     *
+     * @return array containing all elements, top first
+     */
+    public Object[] toArray() {
+        Object[] array = new Object[size];
+        int index = 0;
+        for (PersistentStack<T> current = this; !current.isEmpty(); current = current.rest) {
+            array[index++] = current.top;
+        }
+        return array;
+    }
+
+    /**
+     * Returns a string representation of the stack.
+     * Shows elements from top to bottom.
+     * Time Complexity: O(n)
+     *
+     * @return string representation
+     */
+    @Override
+    public String toString() {
+        if (isEmpty()) {
+            return "PersistentStack: [] (empty)";
+        }
+
+        StringBuilder sb = new StringBuilder("PersistentStack (top to bottom): [");
+        for (PersistentStack<T> current = this; !current.isEmpty(); current = current.rest) {
+            sb.append(current.top);
+            if (!current.rest.isEmpty()) {
+                sb.append(" -> ");
+            }
+        }
+        sb.append("]");
+        return sb.toString();
+    }
+}
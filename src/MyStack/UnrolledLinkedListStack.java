@@ -0,0 +1,222 @@
+package MyStack;
+
+import Exeptions.StackUnderflowException;
+import common.Chunk;
+
+/**
+ * A generic Stack implementation using an Unrolled Linked List.
+ * Follows LIFO (Last In First Out) principle.
+ * Dynamic size - no capacity limit, like LinkedListStack.
+ *
+ * Instead of one Node per element, each link is a Chunk holding up to
+ * chunkSize elements in an array; the top chunk links to the older chunk
+ * below it. That gives one allocation per chunkSize pushes and array-like
+ * memory density. A chunk emptied by pop is kept as a spare, so pushing
+ * and popping across a chunk boundary does not allocate every time.
+ *
+ * @param <T> the type of elements in this stack
+ */
+public class UnrolledLinkedListStack<T> implements Stack<T> {
+    private static final int DEFAULT_CHUNK_SIZE = 64;
+
+    private final int chunkSize;
+    private Chunk<T> top;    // Chunk holding the top element; its last element is the top
+    private Chunk<T> spare;  // Recycled empty chunk, or null
+    private int size;
+
+    /**
+     * Constructs an empty stack with 64 elements per chunk.
+     */
+    public UnrolledLinkedListStack() {
+        this(DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Constructs an empty stack with the given number of elements per chunk.
+     *
+     * @param chunkSize the number of elements each chunk holds
+     * @throws IllegalArgumentException if chunkSize is less than 1
+     */
+    public UnrolledLinkedListStack(int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Chunk size must be at least 1");
+        }
+        this.chunkSize = chunkSize;
+        this.top = null;
+        this.size = 0;
+    }
+
+    /**
+     * Pushes an element onto the top of the stack.
+     * Time Complexity: O(1)
+     *
+     * @param element the element to push
+     * @throws IllegalArgumentException if element is null
+     */
+    public void push(T element) {
+        if (element == null) {
+            throw new IllegalArgumentException("Cannot push null element");
+        }
+        if (top == null || top.isFull()) {
+            // Start a new chunk on top of the current one
+            Chunk<T> chunk = newChunk();
+            chunk.setNext(top);
+            top = chunk;
+        }
+        top.addLast(element);
+        size++;
+    }
+
+    /**
+     * Removes and returns the element at the top of the stack.
+     * Time Complexity: O(1)
+     *
+     * @return the element at the top of the stack
+     * @throws StackUnderflowException if the stack is empty
+     */
+    public T pop() {
+        if (isEmpty()) {
+            throw StackUnderflowException.of("Stack is empty. Cannot pop element.");
+        }
+        T data = top.removeLast();
+        size--;
+
+        if (top.isEmpty()) {
+            Chunk<T> emptied = top;
+            top = top.getNext();  // Move top to the chunk below
+            recycle(emptied);
+        }
+        return data;
+    }
+
+    /**
+     * Returns the element at the top of the stack without removing it.
+     * Time Complexity: O(1)
+     *
+     * @return the element at the top of the stack
+     * @throws StackUnderflowException if the stack is empty
+     */
+    public T peek() {
+        if (isEmpty()) {
+            throw StackUnderflowException.of("Stack is empty. Cannot peek.");
+        }
+        return top.getLast();
+    }
+
+    /**
+     * Checks if the stack is empty.
+     * Time Complexity: O(1)
+     *
+     * @return true if the stack is empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the current number of elements in the stack.
+     * Time Complexity: O(1)
+     *
+     * @return the number of elements
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of elements each chunk holds.
+     * Time Complexity: O(1)
+     *
+     * @return the chunk size
+     */
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    /**
+     * Removes all elements from the stack.
+     * Time Complexity: O(1) - just reset references
+     */
+    public void clear() {
+        top = null;
+        size = 0;
+    }
+
+    /**
+     * Searches for an element in the stack.
+     * Returns the 1-based position from the top (top = 1).
+     * Time Complexity: O(n)
+     *
+     * @param element the element to search for
+     * @return position from top (1-based), or -1 if not found
+     */
+    public int search(T element) {
+        Chunk<T> current = top;
+        int position = 1;
+
+        while (current != null) {
+            for (int i = current.size() - 1; i >= 0; i--) {
+                if (current.get(i).equals(element)) {
+                    return position;
+                }
+                position++;
+            }
+            current = current.getNext();
+        }
+        return -1;  // Not found
+    }
+
+    /**
+     * Returns a string representation of the stack.
+     * Shows elements from top to bottom.
+     * Time Complexity: O(n)
+     *
+     * @return string representation
+     */
+    @Override
+    public String toString() {
+        if (isEmpty()) {
+            return "Stack: [] (empty)";
+        }
+
+        StringBuilder sb = new StringBuilder("Stack (top to bottom): [");
+        Chunk<T> current = top;
+        int written = 0;
+
+        while (current != null) {
+            for (int i = current.size() - 1; i >= 0; i--) {
+                sb.append(current.get(i));
+                if (++written < size) {
+                    sb.append(" -> ");
+                }
+            }
+            current = current.getNext();
+        }
+        sb.append("]");
+        return sb.toString();
+    }
+
+    /**
+     * Returns the spare chunk if there is one, otherwise allocates a new chunk.
+     *
+     * @return an empty, unlinked chunk
+     */
+    private Chunk<T> newChunk() {
+        Chunk<T> chunk = spare;
+        if (chunk == null) {
+            return new Chunk<>(chunkSize);
+        }
+        spare = null;
+        return chunk;
+    }
+
+    /**
+     * Keeps an emptied chunk for reuse.
+     *
+     * @param chunk the emptied chunk
+     */
+    private void recycle(Chunk<T> chunk) {
+        chunk.reset();
+        spare = chunk;
+    }
+}
@@ -0,0 +1,267 @@
+package MyStack;
+
+import Exeptions.StackUnderflowException;
+import common.PaddedAtomicLong;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A work-stealing deque (Chase-Lev): a growable circular ArrayStack that one
+ * owner thread pushes and pops at the top, while any number of thief
+ * threads steal from the bottom.
+ *
+ * The owner's push is a plain write plus an ordered store of top, with no
+ * CAS; its pop only needs a CAS when it races a thief for the very last
+ * element. Thieves take the oldest element FIFO with a single CAS on bottom,
+ * so they rarely collide with the owner, who works at the other end.
+ *
+ * Indices top and bottom only ever increase (they are longs, so they never
+ * wrap in practice) and map to slots with index & mask. When the array is
+ * full the owner copies the live range into an array twice the size;
+ * thieves still reading the old array see the same elements there.
+ *
+ * push, pop, tryPop, peek and clear may only be called by the owner thread.
+ * steal, isEmpty and size may be called from any thread.
+ *
+ * @param <T> the type of elements in this deque
+ */
+public class WorkStealingDeque<T> implements Stack<T> {
+    private static final int DEFAULT_CAPACITY = 64;
+
+    private final PaddedAtomicLong top = new PaddedAtomicLong();     // Owner end: next free index
+    private final PaddedAtomicLong bottom = new PaddedAtomicLong();  // Thief end: oldest element
+    private volatile AtomicReferenceArray<T> array;
+
+    /**
+     * Constructs an empty deque with room for 64 elements before it grows.
+     */
+    public WorkStealingDeque() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty deque with the given initial capacity.
+     * Capacity is rounded up to the next power of two.
+     *
+     * @param initialCapacity the initial capacity
+     * @throws IllegalArgumentException if initialCapacity is less than 1 or greater than 2^30
+     */
+    public WorkStealingDeque(int initialCapacity) {
+        if (initialCapacity < 1 || initialCapacity > (1 << 30)) {
+            throw new IllegalArgumentException("Capacity must be between 1 and 2^30");
+        }
+        int capacity = Integer.highestOneBit(initialCapacity);
+        if (capacity < initialCapacity) {
+            capacity <<= 1;
+        }
+        this.array = new AtomicReferenceArray<>(capacity);
+    }
+
+    /**
+     * Pushes an element onto the top of the deque. Owner thread only.
+     * Time Complexity: amortized O(1), no CAS
+     *
+     * @param element the element to push
+     * @throws IllegalArgumentException if element is null
+     */
+    public void push(T element) {
+        if (element == null) {
+            throw new IllegalArgumentException("Cannot push null element");
+        }
+        long t = top.get();
+        long b = bottom.get();
+        AtomicReferenceArray<T> a = array;
+        if (t - b >= a.length()) {
+            a = grow(a, b, t);
+        }
+        a.lazySet((int) t & (a.length() - 1), element);
+        top.lazySet(t + 1);  // Ordered store: the element is visible before the new top
+    }
+
+    /**
+     * Removes and returns the element at the top of the deque. Owner thread only.
+     * Time Complexity: O(1)
+     *
+     * @return the element at the top of the deque
+     * @throws StackUnderflowException if the deque is empty
+     */
+    public T pop() {
+        T element = tryPop();
+        if (element == null) {
+            throw StackUnderflowException.of("Stack is empty. Cannot pop element.");
+        }
+        return element;
+    }
+
+    /**
+     * Removes and returns the element at the top of the deque, if any. Owner thread only.
+     * Time Complexity: O(1); one CAS only when racing thieves for the last element
+     *
+     * @return the element at the top of the deque, or null if the deque is empty
+     */
+    public T tryPop() {
+        long t = top.get() - 1;
+        AtomicReferenceArray<T> a = array;
+        top.set(t);  // Volatile store: must be visible to thieves before bottom is read
+        long b = bottom.get();
+
+        if (b > t) {
+            top.set(b);  // Was already empty: restore
+            return null;
+        }
+
+        int slot = (int) t & (a.length() - 1);
+        T element = a.get(slot);
+        if (b == t) {
+            // Last element: a thief may be taking it right now, settle it on bottom
+            if (!bottom.compareAndSet(b, b + 1)) {
+                element = null;  // Thief won
+            }
+            top.set(b + 1);
+        }
+        if (element != null) {
+            a.lazySet(slot, null);  // Help garbage collection
+        }
+        return element;
+    }
+
+    /**
+     * Removes and returns the element at the bottom of the deque (the oldest one).
+     * May be called from any thread.
+     * Time Complexity: O(1), one CAS
+     *
+     * @return the stolen element, or null if the deque is empty or another thread won the race
+     */
+    public T steal() {
+        long b = bottom.get();
+        long t = top.get();  // Read after bottom
+        if (b >= t) {
+            return null;
+        }
+
+        AtomicReferenceArray<T> a = array;
+        int slot = (int) b & (a.length() - 1);
+        T element = a.get(slot);
+        if (element == null || !bottom.compareAndSet(b, b + 1)) {
+            return null;  // Lost to the owner or another thief
+        }
+        // The slot is not cleared here: the owner may already be reusing it
+        return element;
+    }
+
+    /**
+     * Returns the element at the top of the deque without removing it. Owner thread only.
+     * A thief may steal it at any moment if it is the last element.
+     * Time Complexity: O(1)
+     *
+     * @return the element at the top of the deque
+     * @throws StackUnderflowException if the deque is empty
+     */
+    public T peek() {
+        long t = top.get() - 1;
+        if (bottom.get() > t) {
+            throw StackUnderflowException.of("Stack is empty. Cannot peek.");
+        }
+        AtomicReferenceArray<T> a = array;
+        T element = a.get((int) t & (a.length() - 1));
+        if (element == null) {
+            throw StackUnderflowException.of("Stack is empty. Cannot peek.");  // Just stolen
+        }
+        return element;
+    }
+
+    /**
+     * Checks if the deque is empty. A snapshot when other threads are active.
+     * Time Complexity: O(1)
+     *
+     * @return true if the deque is empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return bottom.get() >= top.get();
+    }
+
+    /**
+     * Returns the number of elements in the deque. A snapshot when other threads are active.
+     * Time Complexity: O(1)
+     *
+     * @return the number of elements
+     */
+    public int size() {
+        long b = bottom.get();
+        long t = top.get();
+        return (int) Math.max(0, t - b);
+    }
+
+    /**
+     * Returns the current length of the circular array.
+     * Time Complexity: O(1)
+     *
+     * @return the capacity
+     */
+    public int getCapacity() {
+        return array.length();
+    }
+
+    /**
+     * Removes all elements from the deque. Owner thread only.
+     * Thieves may still steal some of them while it runs.
+     * Time Complexity: O(n)
+     */
+    public void clear() {
+        while (tryPop() != null) {
+            // Drain
+        }
+    }
+
+    /**
+     * Returns a string representation of the deque.
+     * Shows elements from top to bottom; a snapshot when other threads are active.
+     * Time Complexity: O(n)
+     *
+     * @return string representation
+     */
+    @Override
+    public String toString() {
+        long b = bottom.get();
+        long t = top.get();
+        if (b >= t) {
+            return "Stack: [] (empty)";
+        }
+
+        AtomicReferenceArray<T> a = array;
+        int mask = a.length() - 1;
+        StringBuilder sb = new StringBuilder("Stack (top to bottom): [");
+        for (long i = t - 1; i >= b; i--) {
+            sb.append(a.get((int) i & mask));
+            if (i > b) {
+                sb.append(" -> ");
+            }
+        }
+        sb.append("]");
+        return sb.toString();
+    }
+
+    /**
+     * Copies the live range into an array twice the size and publishes it. Owner thread only.
+     * The old array is left untouched for thieves still reading it.
+     * Time Complexity: O(n)
+     *
+     * @param old the current array
+     * @param b   bottom index
+     * @param t   top index
+     * @return the new array
+     */
+    private AtomicReferenceArray<T> grow(AtomicReferenceArray<T> old, long b, long t) {
+        if (old.length() >= (1 << 30)) {
+            throw new IllegalStateException("Work-stealing deque cannot grow beyond 2^30 elements");
+        }
+        int oldMask = old.length() - 1;
+        AtomicReferenceArray<T> grown = new AtomicReferenceArray<>(old.length() * 2);
+        int newMask = grown.length() - 1;
+        for (long i = b; i < t; i++) {
+            grown.lazySet((int) i & newMask, old.get((int) i & oldMask));
+        }
+        array = grown;  // Volatile store publishes the copied slots
+        return grown;
+    }
+}
@@ -0,0 +1,299 @@
+package MyStack;
+
+import MyQueue.ConcurrentLinkedListQueue;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A small fork-join style task scheduler built on WorkStealingDeque.
+ *
+ * Each worker thread owns a deque. A task running on a worker forks
+ * subtasks onto its own deque (LIFO, no CAS), so the worker keeps working
+ * on the freshest, cache-hot tasks. A worker whose deque runs dry first
+ * takes tasks submitted from outside the pool, then steals the oldest task
+ * from a randomly chosen victim, which tends to be the biggest piece of
+ * remaining work. Only when all of that fails does it park.
+ *
+ * Tasks are plain Runnables. A task that throws is reported to the
+ * worker's uncaught exception handler and the worker keeps running.
+ *
+ * Usage:
+ * <pre>
+ *     WorkStealingPool pool = new WorkStealingPool(4);
+ *     pool.submit(() -&gt; solve(problem, pool));   // solve() calls pool.fork(...)
+ *     pool.awaitQuiescence(1, TimeUnit.MINUTES);
+ *     pool.shutdown();
+ * </pre>
+ */
+public class WorkStealingPool {
+    private static final int SPINS_BEFORE_PARK = 64;
+    private static final long MAX_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final Worker[] workers;
+    private final ConcurrentLinkedListQueue<Runnable> submissions = new ConcurrentLinkedListQueue<>();
+    private final AtomicLong pending = new AtomicLong();      // Submitted or forked, not yet finished
+    private final AtomicInteger parkedWorkers = new AtomicInteger();
+    private volatile boolean shutdown;
+
+    /**
+     * Constructs a pool with one worker per available processor.
+     */
+    public WorkStealingPool() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructs a pool with the given number of worker threads and starts them.
+     *
+     * @param parallelism the number of workers
+     * @throws IllegalArgumentException if parallelism is less than 1
+     */
+    public WorkStealingPool(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be at least 1");
+        }
+        this.workers = new Worker[parallelism];
+        for (int i = 0; i < parallelism; i++) {
+            workers[i] = new Worker(i);
+        }
+        for (Worker worker : workers) {
+            worker.start();
+        }
+    }
+
+    /**
+     * Submits a task from any thread.
+     * Time Complexity: O(1)
+     *
+     * @param task the task to run
+     * @throws IllegalArgumentException if task is null
+     * @throws IllegalStateException if the pool is shut down
+     */
+    public void submit(Runnable task) {
+        if (task == null) {
+            throw new IllegalArgumentException("Cannot submit null task");
+        }
+        if (shutdown) {
+            throw new IllegalStateException("Pool is shut down");
+        }
+        pending.incrementAndGet();
+        submissions.enqueue(task);
+        wakeParkedWorker();
+    }
+
+    /**
+     * Forks a subtask. Called from a task running in this pool, it goes on the
+     * current worker's own deque; from any other thread it is submitted.
+     * Time Complexity: O(1)
+     *
+     * @param task the task to run
+     * @throws IllegalArgumentException if task is null
+     * @throws IllegalStateException if the pool is shut down
+     */
+    public void fork(Runnable task) {
+        Thread current = Thread.currentThread();
+        if (!(current instanceof Worker) || ((Worker) current).pool() != this) {
+            submit(task);
+            return;
+        }
+        if (task == null) {
+            throw new IllegalArgumentException("Cannot submit null task");
+        }
+        pending.incrementAndGet();
+        ((Worker) current).deque.push(task);
+        wakeParkedWorker();
+    }
+
+    /**
+     * Waits until every submitted and forked task has finished.
+     *
+     * @param timeout how long to wait
+     * @param unit    the unit of timeout
+     * @return true if the pool went quiet, false if the timeout elapsed first
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public boolean awaitQuiescence(long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        long parkNanos = 1_000;
+        while (pending.get() != 0) {
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return false;
+            }
+            LockSupport.parkNanos(Math.min(parkNanos, remaining));
+            parkNanos = Math.min(parkNanos * 2, MAX_PARK_NANOS);
+        }
+        return true;
+    }
+
+    /**
+     * Returns the number of tasks submitted or forked that have not finished yet.
+     * Time Complexity: O(1)
+     *
+     * @return the pending task count
+     */
+    public long getPendingTasks() {
+        return pending.get();
+    }
+
+    /**
+     * Returns the number of worker threads.
+     *
+     * @return the parallelism
+     */
+    public int getParallelism() {
+        return workers.length;
+    }
+
+    /**
+     * Returns the number of tasks workers have stolen from each other so far.
+     * Time Complexity: O(number of workers)
+     *
+     * @return the steal count
+     */
+    public long getStealCount() {
+        long steals = 0;
+        for (Worker worker : workers) {
+            steals += worker.steals;
+        }
+        return steals;
+    }
+
+    /**
+     * Stops accepting submissions and lets workers exit once they find no more work.
+     * Tasks already queued still run.
+     */
+    public void shutdown() {
+        shutdown = true;
+        for (Worker worker : workers) {
+            LockSupport.unpark(worker);
+        }
+    }
+
+    /**
+     * Checks if shutdown has been called.
+     *
+     * @return true if the pool is shut down, false otherwise
+     */
+    public boolean isShutdown() {
+        return shutdown;
+    }
+
+    /**
+     * Unparks one parked worker, if any, so new work does not wait for a park timeout.
+     */
+    private void wakeParkedWorker() {
+        if (parkedWorkers.get() == 0) {
+            return;
+        }
+        for (Worker worker : workers) {
+            if (worker.parked) {
+                LockSupport.unpark(worker);
+                return;
+            }
+        }
+    }
+
+    /**
+     * A worker thread and the deque it owns.
+     */
+    private final class Worker extends Thread {
+        private final WorkStealingDeque<Runnable> deque = new WorkStealingDeque<>();
+        private volatile boolean parked;
+        private volatile long steals;  // Only written by this worker
+
+        Worker(int index) {
+            super("work-stealing-worker-" + index);
+            setDaemon(true);
+        }
+
+        WorkStealingPool pool() {
+            return WorkStealingPool.this;
+        }
+
+        @Override
+        public void run() {
+            int idleRounds = 0;
+            long parkNanos = 1_000;
+
+            while (true) {
+                Runnable task = findTask();
+                if (task != null) {
+                    idleRounds = 0;
+                    parkNanos = 1_000;
+                    runTask(task);
+                    continue;
+                }
+                if (shutdown && pending.get() == 0) {
+                    return;
+                }
+                if (++idleRounds < SPINS_BEFORE_PARK) {
+                    Thread.onSpinWait();
+                    continue;
+                }
+
+                // Nothing anywhere: park with backoff until new work wakes us
+                parked = true;
+                parkedWorkers.incrementAndGet();
+                if (deque.isEmpty() && submissions.isEmpty()) {
+                    LockSupport.parkNanos(this, parkNanos);
+                    parkNanos = Math.min(parkNanos * 2, MAX_PARK_NANOS);
+                }
+                parkedWorkers.decrementAndGet();
+                parked = false;
+            }
+        }
+
+        /**
+         * Own deque first (LIFO), then outside submissions, then steal (FIFO) from the others.
+         *
+         * @return a task, or null if none was found
+         */
+        private Runnable findTask() {
+            Runnable task = deque.tryPop();
+            if (task != null) {
+                return task;
+            }
+            task = submissions.poll();
+            if (task != null) {
+                return task;
+            }
+
+            int count = workers.length;
+            int start = ThreadLocalRandom.current().nextInt(count);
+            for (int i = 0; i < count; i++) {
+                Worker victim = workers[(start + i) % count];
+                if (victim != this) {
+                    task = victim.deque.steal();
+                    if (task != null) {
+                        steals++;
+                        return task;
+                    }
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Runs a task, reporting any exception, and counts it as finished.
+         *
+         * @param task the task to run
+         */
+        private void runTask(Runnable task) {
+            try {
+                task.run();
+            } catch (Throwable t) {
+                getUncaughtExceptionHandler().uncaughtException(this, t);
+            } finally {
+                pending.decrementAndGet();
+            }
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package common;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event committed when an instrumented structure overflows or underflows.
+ * Recorded whenever a recording is running; overflows and underflows
+ * are rare enough not to need opting in.
+ */
+@Name("datastructures.Capacity")
+@Label("Capacity Exceeded")
+@Category({"Data Structures"})
+@Description("An instrumented stack or queue was full on insert or empty on remove")
+public class CapacityEvent extends Event {
+
+    @Label("Structure")
+    public String structure;
+
+    @Label("Operation")
+    @Description("overflow or underflow")
+    public String operation;
+
+    @Label("Size")
+    public int size;
+}
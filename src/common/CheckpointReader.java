@@ -0,0 +1,170 @@
+package common;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.util.Objects;
+
+/**
+ * Streams the elements of a checkpoint written by CheckpointWriter back from a channel.
+ * Reads through one fixed-size direct ByteBuffer; each element is decoded
+ * by the ElementSerializer from a view of exactly its record's bytes.
+ * Reads never go past the checkpoint: the buffer is only filled with bytes
+ * already known to belong to it (the current record plus the next record's
+ * length), so whatever follows the checkpoint on the channel stays unread.
+ *
+ * Use it as: new reader (reads and checks the header), then next() getCount() times.
+ *
+ * @param <T> the type of elements to read
+ */
+public class CheckpointReader<T> {
+    private final ReadableByteChannel channel;
+    private final ElementSerializer<T> serializer;
+    private final ByteBuffer buffer;  // Kept in read mode: unread bytes are position..limit
+    private final long count;
+    private long read;
+
+    /**
+     * Opens a checkpoint with the default buffer size and checks its header.
+     *
+     * @param channel      the source channel
+     * @param serializer   the element codec
+     * @param expectedKind CheckpointWriter.STACK or CheckpointWriter.QUEUE
+     * @throws IOException if the header cannot be read, is not a checkpoint,
+     *                     has an unsupported version or the wrong kind
+     */
+    public CheckpointReader(ReadableByteChannel channel, ElementSerializer<T> serializer,
+                            byte expectedKind) throws IOException {
+        this(channel, serializer, expectedKind, CheckpointWriter.DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Opens a checkpoint and checks its header.
+     *
+     * @param channel      the source channel
+     * @param serializer   the element codec
+     * @param expectedKind CheckpointWriter.STACK or CheckpointWriter.QUEUE
+     * @param bufferSize   the size in bytes of the direct read buffer
+     * @throws IOException if the header cannot be read, is not a checkpoint,
+     *                     has an unsupported version or the wrong kind
+     * @throws IllegalArgumentException if bufferSize is too small
+     */
+    public CheckpointReader(ReadableByteChannel channel, ElementSerializer<T> serializer,
+                            byte expectedKind, int bufferSize) throws IOException {
+        if (bufferSize < CheckpointWriter.HEADER_SIZE) {
+            throw new IllegalArgumentException("Buffer size must be at least " + CheckpointWriter.HEADER_SIZE);
+        }
+        this.channel = Objects.requireNonNull(channel, "channel");
+        this.serializer = Objects.requireNonNull(serializer, "serializer");
+        this.buffer = ByteBuffer.allocateDirect(bufferSize);
+        buffer.flip();  // Start empty
+
+        require(CheckpointWriter.HEADER_SIZE);
+        if (buffer.getInt() != CheckpointWriter.MAGIC) {
+            throw new IOException("Not a checkpoint stream");
+        }
+        short version = buffer.getShort();
+        if (version != CheckpointWriter.VERSION) {
+            throw new IOException("Unsupported checkpoint version: " + version);
+        }
+        byte kind = buffer.get();
+        if (kind != expectedKind) {
+            throw new IOException("Checkpoint holds kind " + kind + ", expected " + expectedKind);
+        }
+        this.count = buffer.getLong();
+        if (count < 0) {
+            throw new IOException("Corrupt checkpoint: negative element count");
+        }
+    }
+
+    /**
+     * Returns the number of elements in the checkpoint.
+     *
+     * @return the element count from the header
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Checks if there are elements left to read.
+     *
+     * @return true if next() can be called
+     */
+    public boolean hasNext() {
+        return read < count;
+    }
+
+    /**
+     * Reads and decodes the next element.
+     * Time Complexity: O(record size)
+     *
+     * @return the element
+     * @throws IOException if the channel ends early, or a record is corrupt
+     * @throws IllegalStateException if every element was already read
+     */
+    public T next() throws IOException {
+        if (!hasNext()) {
+            throw new IllegalStateException("Checkpoint has no more elements");
+        }
+        require(Integer.BYTES);
+        int size = buffer.getInt();
+        if (size < 0) {
+            throw new IOException("Corrupt checkpoint: negative record length");
+        }
+
+        T element;
+        if (size <= buffer.capacity()) {
+            // Also fetch the next record's length, when it fits, to save a read per record
+            boolean more = read + 1 < count && size <= buffer.capacity() - Integer.BYTES;
+            require(more ? size + Integer.BYTES : size);
+            int end = buffer.position() + size;
+            ByteBuffer record = buffer.duplicate();
+            record.limit(end);
+            element = serializer.read(record);
+            buffer.position(end);
+        } else {
+            // Larger than the whole read buffer: gather it in a buffer of its own
+            ByteBuffer large = ByteBuffer.allocate(size);
+            ByteBuffer buffered = buffer.duplicate();
+            buffered.limit(buffered.position() + Math.min(size, buffer.remaining()));
+            large.put(buffered);
+            buffer.position(buffered.position());
+            readFully(large);  // Exactly the rest of the record
+            large.flip();
+            element = serializer.read(large);
+        }
+        if (element == null) {
+            throw new IOException("Corrupt checkpoint: serializer decoded a null element");
+        }
+        read++;
+        return element;
+    }
+
+    /**
+     * Makes sure at least n unread bytes are in the buffer, reading more from the channel if needed.
+     * Reads at most up to n buffered bytes, so nothing past what the caller asked for is consumed.
+     */
+    private void require(int n) throws IOException {
+        if (buffer.remaining() >= n) {
+            return;
+        }
+        buffer.compact();  // Move unread bytes to the start, switch to write mode
+        buffer.limit(n);
+        while (buffer.position() < n) {
+            if (channel.read(buffer) < 0) {
+                throw new EOFException("Checkpoint ended early");
+            }
+        }
+        buffer.flip();
+    }
+
+    private void readFully(ByteBuffer destination) throws IOException {
+        while (destination.hasRemaining()) {
+            if (channel.read(destination) < 0) {
+                throw new EOFException("Checkpoint ended early");
+            }
+        }
+    }
+}
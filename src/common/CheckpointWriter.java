@@ -0,0 +1,162 @@
+package common;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.Objects;
+
+/**
+ * Streams the elements of a stack or queue to a channel in a compact binary checkpoint format.
+ *
+ * Format (all integers big-endian):
+ * - header: magic "DSCK" (int), format version (short), kind (byte:
+ *   STACK or QUEUE), element count (long)
+ * - one record per element: byte length (int), then the bytes written by
+ *   the ElementSerializer
+ *
+ * Stacks are written top to bottom and queues front to rear, i.e. in the
+ * order pop/dequeue would return them. Records are staged in one direct
+ * ByteBuffer of a fixed size and written out whenever it fills up, so
+ * checkpointing does not copy the structure or build anything on the heap;
+ * only a record larger than the buffer gets a temporary buffer of its own.
+ *
+ * Use it as: new writer (writes the header), write() every element, then finish().
+ *
+ * @param <T> the type of elements to write
+ */
+public class CheckpointWriter<T> {
+    /** "DSCK": identifies a checkpoint stream. */
+    public static final int MAGIC = 0x4453434B;
+    /** Current format version. */
+    public static final short VERSION = 1;
+    /** Kind byte of a stack checkpoint. */
+    public static final byte STACK = 1;
+    /** Kind byte of a queue checkpoint. */
+    public static final byte QUEUE = 2;
+    /** Default size of the staging buffer. */
+    public static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    // Bytes in the header: magic + version + kind + count
+    static final int HEADER_SIZE = Integer.BYTES + Short.BYTES + Byte.BYTES + Long.BYTES;
+
+    private final WritableByteChannel channel;
+    private final ElementSerializer<T> serializer;
+    private final ByteBuffer buffer;
+    private final long count;
+    private long written;
+
+    /**
+     * Starts a checkpoint with the default buffer size and writes its header.
+     *
+     * @param channel    the destination channel
+     * @param serializer the element codec
+     * @param kind       STACK or QUEUE
+     * @param count      the number of elements that will be written
+     * @throws IOException if the header cannot be written
+     */
+    public CheckpointWriter(WritableByteChannel channel, ElementSerializer<T> serializer,
+                            byte kind, long count) throws IOException {
+        this(channel, serializer, kind, count, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Starts a checkpoint and writes its header.
+     *
+     * @param channel    the destination channel
+     * @param serializer the element codec
+     * @param kind       STACK or QUEUE
+     * @param count      the number of elements that will be written
+     * @param bufferSize the size in bytes of the direct staging buffer
+     * @throws IOException if the header cannot be written
+     * @throws IllegalArgumentException if kind is unknown, count is negative or bufferSize is too small
+     */
+    public CheckpointWriter(WritableByteChannel channel, ElementSerializer<T> serializer,
+                            byte kind, long count, int bufferSize) throws IOException {
+        if (kind != STACK && kind != QUEUE) {
+            throw new IllegalArgumentException("Unknown checkpoint kind: " + kind);
+        }
+        if (count < 0) {
+            throw new IllegalArgumentException("Count must not be negative");
+        }
+        if (bufferSize < HEADER_SIZE) {
+            throw new IllegalArgumentException("Buffer size must be at least " + HEADER_SIZE);
+        }
+        this.channel = Objects.requireNonNull(channel, "channel");
+        this.serializer = Objects.requireNonNull(serializer, "serializer");
+        this.buffer = ByteBuffer.allocateDirect(bufferSize);
+        this.count = count;
+
+        buffer.putInt(MAGIC).putShort(VERSION).put(kind).putLong(count);
+    }
+
+    /**
+     * Appends one element record, flushing the buffer to the channel when it is full.
+     * Time Complexity: O(record size)
+     *
+     * @param element the element to write
+     * @throws IOException if the channel write fails
+     * @throws IllegalStateException if more elements are written than the header announced,
+     *                               or the serializer wrote a different number of bytes than sizeOf returned
+     */
+    public void write(T element) throws IOException {
+        if (written == count) {
+            throw new IllegalStateException("Checkpoint already holds " + count + " elements");
+        }
+        int size = serializer.sizeOf(element);
+        if (buffer.remaining() < Integer.BYTES + size) {
+            flush();
+        }
+        if (buffer.remaining() >= Integer.BYTES + size) {
+            int start = buffer.position();
+            buffer.putInt(size);
+            serializer.write(element, buffer);
+            int wrote = buffer.position() - start - Integer.BYTES;
+            if (wrote != size) {
+                buffer.position(start);  // Drop the bad record so the buffer stays well-formed
+                throw sizeMismatch(wrote, size);
+            }
+        } else {
+            // Larger than the whole staging buffer: give this record its own buffer
+            ByteBuffer large = ByteBuffer.allocate(size);
+            serializer.write(element, large);
+            if (large.position() != size) {
+                throw sizeMismatch(large.position(), size);
+            }
+            buffer.putInt(size);
+            flush();
+            large.flip();
+            writeFully(large);
+        }
+        written++;
+    }
+
+    /**
+     * Writes out any buffered records. Call once after the last write().
+     *
+     * @throws IOException if the channel write fails
+     * @throws IllegalStateException if fewer elements were written than the header announced
+     */
+    public void finish() throws IOException {
+        if (written != count) {
+            throw new IllegalStateException("Checkpoint expected " + count + " elements, got " + written);
+        }
+        flush();
+    }
+
+    private static IllegalStateException sizeMismatch(int wrote, int size) {
+        return new IllegalStateException("Serializer wrote " + wrote + " bytes but sizeOf returned " + size
+                + "; every later record would be misread");
+    }
+
+    private void flush() throws IOException {
+        buffer.flip();
+        writeFully(buffer);
+        buffer.clear();
+    }
+
+    private void writeFully(ByteBuffer source) throws IOException {
+        while (source.hasRemaining()) {
+            channel.write(source);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package common;
+
+import java.util.Arrays;
+
+/**
+ * Chunk class for Unrolled Linked List implementations.
+ * Holds up to a fixed number of elements in an array, in slots head..tail-1,
+ * plus a reference to the next chunk. Elements are added at the tail and
+ * removed from either end; slots are never reused until the chunk is reset.
+ *
+ * @param <T> the type of data stored in the chunk
+ */
+public class Chunk<T> {
+    private final Object[] items;
+    private int head;   // Index of the first element
+    private int tail;   // Index one past the last element
+    private Chunk<T> next;
+
+    /**
+     * Constructs an empty chunk with the given number of slots.
+     *
+     * @param capacity the number of slots
+     */
+    public Chunk(int capacity) {
+        this.items = new Object[capacity];
+    }
+
+    /**
+     * Appends an element after the last one.
+     * The caller must check isFull() first.
+     *
+     * @param element the element to add
+     */
+    public void addLast(T element) {
+        items[tail++] = element;
+    }
+
+    /**
+     * Removes and returns the first element.
+     * The caller must check isEmpty() first.
+     *
+     * @return the first element
+     */
+    @SuppressWarnings("unchecked")
+    public T removeFirst() {
+        T element = (T) items[head];
+        items[head++] = null;  // Help garbage collection
+        return element;
+    }
+
+    /**
+     * Removes and returns the last element.
+     * The caller must check isEmpty() first.
+     *
+     * @return the last element
+     */
+    @SuppressWarnings("unchecked")
+    public T removeLast() {
+        T element = (T) items[--tail];
+        items[tail] = null;  // Help garbage collection
+        return element;
+    }
+
+    /**
+     * Returns the element at a position relative to the first element.
+     *
+     * @param index 0-based position from the first element
+     * @return the element
+     */
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        return (T) items[head + index];
+    }
+
+    @SuppressWarnings("unchecked")
+    public T getFirst() {
+        return (T) items[head];
+    }
+
+    @SuppressWarnings("unchecked")
+    public T getLast() {
+        return (T) items[tail - 1];
+    }
+
+    public int size() {
+        return tail - head;
+    }
+
+    public boolean isEmpty() {
+        return head == tail;
+    }
+
+    /**
+     * Checks if no more elements can be appended (the last slot is used).
+     *
+     * @return true if the chunk is full at the tail
+     */
+    public boolean isFull() {
+        return tail == items.length;
+    }
+
+    /**
+     * Empties the chunk and unlinks it so it can be reused.
+     */
+    public void reset() {
+        Arrays.fill(items, head, tail, null);  // Help garbage collection
+        head = 0;
+        tail = 0;
+        next = null;
+    }
+
+    public Chunk<T> getNext() {
+        return next;
+    }
+
+    public void setNext(Chunk<T> next) {
+        this.next = next;
+    }
+}
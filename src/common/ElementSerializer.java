@@ -0,0 +1,106 @@
+package common;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Converts elements to and from bytes, for structures that store their
+ * contents outside the Java heap (files, channels).
+ *
+ * write() must put exactly sizeOf(element) bytes into the buffer, starting
+ * at its position; read() receives a buffer whose remaining bytes are
+ * exactly one record written by write().
+ *
+ * @param <T> the type of elements to serialize
+ */
+public interface ElementSerializer<T> {
+
+    /**
+     * Returns the number of bytes write() will produce for an element.
+     *
+     * @param element the element
+     * @return the encoded size in bytes
+     */
+    int sizeOf(T element);
+
+    /**
+     * Writes an element at the buffer's position and advances it.
+     *
+     * @param element the element to write
+     * @param buffer  the destination, with at least sizeOf(element) bytes remaining
+     */
+    void write(T element, ByteBuffer buffer);
+
+    /**
+     * Reads one element from the buffer's remaining bytes.
+     *
+     * @param buffer the source, positioned at the record
+     * @return the decoded element
+     */
+    T read(ByteBuffer buffer);
+
+    /**
+     * Serializer for Integer values (4 bytes each).
+     *
+     * @return the serializer
+     */
+    static ElementSerializer<Integer> ofInteger() {
+        return new ElementSerializer<Integer>() {
+            public int sizeOf(Integer element) {
+                return Integer.BYTES;
+            }
+
+            public void write(Integer element, ByteBuffer buffer) {
+                buffer.putInt(element);
+            }
+
+            public Integer read(ByteBuffer buffer) {
+                return buffer.getInt();
+            }
+        };
+    }
+
+    /**
+     * Serializer for Long values (8 bytes each).
+     *
+     * @return the serializer
+     */
+    static ElementSerializer<Long> ofLong() {
+        return new ElementSerializer<Long>() {
+            public int sizeOf(Long element) {
+                return Long.BYTES;
+            }
+
+            public void write(Long element, ByteBuffer buffer) {
+                buffer.putLong(element);
+            }
+
+            public Long read(ByteBuffer buffer) {
+                return buffer.getLong();
+            }
+        };
+    }
+
+    /**
+     * Serializer for Strings, stored as UTF-8 bytes.
+     *
+     * @return the serializer
+     */
+    static ElementSerializer<String> ofString() {
+        return new ElementSerializer<String>() {
+            public int sizeOf(String element) {
+                return element.getBytes(StandardCharsets.UTF_8).length;
+            }
+
+            public void write(String element, ByteBuffer buffer) {
+                buffer.put(element.getBytes(StandardCharsets.UTF_8));
+            }
+
+            public String read(ByteBuffer buffer) {
+                byte[] bytes = new byte[buffer.remaining()];
+                buffer.get(bytes);
+                return new String(bytes, StandardCharsets.UTF_8);
+            }
+        };
+    }
+}
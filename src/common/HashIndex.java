@@ -0,0 +1,188 @@
+package common;
+
+import java.util.HashMap;
+
+/**
+ * A hash multiset of elements with position bookkeeping, used by the
+ * indexed mode of ArrayQueue, LinkedListQueue and LinkedListStack to answer
+ * contains/indexOf/search in O(1) instead of scanning.
+ *
+ * Every element maps to the positions of its copies, oldest first. The
+ * owning structure decides what a position means: a queue uses the
+ * running count of enqueues (so oldest = nearest the front), a stack uses
+ * the depth from the bottom (so newest = nearest the top). A queue removes
+ * the oldest position of an element on dequeue, a stack the newest on pop;
+ * both are O(1).
+ *
+ * Memory: one HashMap entry plus one small position ring per distinct
+ * element, and 8 bytes per copy.
+ *
+ * @param <T> the type of indexed elements
+ */
+public class HashIndex<T> {
+
+    /**
+     * Positions of one element's copies, oldest first, in a circular long array.
+     */
+    private static final class Positions {
+        private long[] ring = new long[1];
+        private int head;   // Index of the oldest position
+        private int count;
+
+        void addNewest(long position) {
+            if (count == ring.length) {
+                long[] grown = new long[ring.length * 2];
+                for (int i = 0; i < count; i++) {
+                    grown[i] = ring[(head + i) % ring.length];
+                }
+                ring = grown;
+                head = 0;
+            }
+            ring[(head + count) % ring.length] = position;
+            count++;
+        }
+
+        long oldest() {
+            return ring[head];
+        }
+
+        long newest() {
+            return ring[(head + count - 1) % ring.length];
+        }
+
+        void removeOldest() {
+            head = (head + 1) % ring.length;
+            count--;
+        }
+
+        void removeNewest() {
+            count--;
+        }
+    }
+
+    private final HashMap<T, Positions> positions = new HashMap<>();
+    private int size;  // Total copies, counting duplicates
+
+    /**
+     * Records a new copy of an element at a position newer than all its other copies.
+     * Time Complexity: O(1) expected
+     *
+     * @param element  the element (not null)
+     * @param position its position
+     */
+    public void add(T element, long position) {
+        Positions entry = positions.get(element);
+        if (entry == null) {
+            entry = new Positions();
+            positions.put(element, entry);
+        }
+        entry.addNewest(position);
+        size++;
+    }
+
+    /**
+     * Forgets the oldest copy of an element (a queue dequeue).
+     * Time Complexity: O(1) expected
+     *
+     * @param element the element; must be present
+     */
+    public void removeOldest(T element) {
+        Positions entry = positions.get(element);
+        entry.removeOldest();
+        if (entry.count == 0) {
+            positions.remove(element);
+        }
+        size--;
+    }
+
+    /**
+     * Forgets the newest copy of an element (a stack pop).
+     * Time Complexity: O(1) expected
+     *
+     * @param element the element; must be present
+     */
+    public void removeNewest(T element) {
+        Positions entry = positions.get(element);
+        entry.removeNewest();
+        if (entry.count == 0) {
+            positions.remove(element);
+        }
+        size--;
+    }
+
+    /**
+     * Checks if at least one copy of an element is indexed.
+     * Time Complexity: O(1) expected
+     *
+     * @param element the element to look up
+     * @return true if present, false otherwise
+     */
+    public boolean contains(Object element) {
+        return element != null && positions.containsKey(element);
+    }
+
+    /**
+     * Returns how many copies of an element are indexed.
+     * Time Complexity: O(1) expected
+     *
+     * @param element the element to look up
+     * @return the number of copies (0 if absent)
+     */
+    public int count(Object element) {
+        Positions entry = element == null ? null : positions.get(element);
+        return entry == null ? 0 : entry.count;
+    }
+
+    /**
+     * Returns the oldest position of an element.
+     * Time Complexity: O(1) expected
+     *
+     * @param element the element to look up
+     * @return the oldest position, or -1 if absent
+     */
+    public long oldestPosition(Object element) {
+        Positions entry = element == null ? null : positions.get(element);
+        return entry == null ? -1 : entry.oldest();
+    }
+
+    /**
+     * Returns the newest position of an element.
+     * Time Complexity: O(1) expected
+     *
+     * @param element the element to look up
+     * @return the newest position, or -1 if absent
+     */
+    public long newestPosition(Object element) {
+        Positions entry = element == null ? null : positions.get(element);
+        return entry == null ? -1 : entry.newest();
+    }
+
+    /**
+     * Returns the number of indexed copies, counting duplicates.
+     * Time Complexity: O(1)
+     *
+     * @return the number of copies
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of distinct indexed elements.
+     * Time Complexity: O(1)
+     *
+     * @return the number of distinct elements
+     */
+    public int distinctCount() {
+        return positions.size();
+    }
+
+    /**
+     * Forgets every element.
+     * Time Complexity: O(number of distinct elements)
+     */
+    public void clear() {
+        positions.clear();
+        size = 0;
+    }
+}
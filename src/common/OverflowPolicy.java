@@ -0,0 +1,17 @@
+package common;
+
+/**
+ * What a bounded structure does with an element that arrives when it is full.
+ * Every policy is O(1) and allocates nothing; dropped elements are counted
+ * (and passed to the drop callback, if one was given) so data loss stays visible.
+ */
+public enum OverflowPolicy {
+    /** Refuse the new element: enqueue/push throw, offer/tryPush return false. */
+    REJECT,
+
+    /** Keep the current contents and drop the new element. */
+    DROP_NEWEST,
+
+    /** Drop the oldest element to make room for the new one (an overwriting ring). */
+    DROP_OLDEST
+}
@@ -0,0 +1,33 @@
+package common;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * An AtomicLong padded out to its own cache line.
+ * Used for counters that different threads write at high rates (e.g. the
+ * head and tail of a concurrent queue), so that updating one does not
+ * invalidate the cache line holding the other (false sharing).
+ */
+public class PaddedAtomicLong extends AtomicLong {
+    private static final long serialVersionUID = 1L;
+
+    // Padding: 7 longs + the inherited value fill a 64-byte cache line
+    @SuppressWarnings("unused")
+    private long p1, p2, p3, p4, p5, p6, p7;
+
+    /**
+     * Constructs a padded counter with initial value 0.
+     */
+    public PaddedAtomicLong() {
+        super();
+    }
+
+    /**
+     * Constructs a padded counter with the given initial value.
+     *
+     * @param initialValue the initial value
+     */
+    public PaddedAtomicLong(long initialValue) {
+        super(initialValue);
+    }
+}
@@ -0,0 +1,190 @@
+package common;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+/**
+ * Linear search over a range of an int[] or long[], used by the primitive
+ * queues and stacks for contains/indexOf/search.
+ *
+ * When the jdk.incubator.vector module is present (run with
+ * `--add-modules jdk.incubator.vector`) and VectorizedSearch was compiled
+ * from src-vector, ranges of at least VECTOR_THRESHOLD elements are
+ * compared a whole SIMD register at a time. Otherwise, or with
+ * `-Dcommon.vector=false`, a plain scalar loop is used. Both return the
+ * same results.
+ *
+ * VectorizedSearch is not referenced by name in the code: it is looked up
+ * once, reflectively, and called through static final method handles
+ * (which the JIT inlines like direct calls). So src/ compiles without the
+ * incubator module, and the Vector API classes are never loaded without it.
+ */
+public final class PrimitiveSearch {
+    /** Shorter ranges are searched with the scalar loop. */
+    public static final int VECTOR_THRESHOLD = 64;
+
+    // VectorizedSearch entry points; all null when the scalar loops are used
+    private static final MethodHandle INT_INDEX_OF;
+    private static final MethodHandle INT_LAST_INDEX_OF;
+    private static final MethodHandle LONG_INDEX_OF;
+    private static final MethodHandle LONG_LAST_INDEX_OF;
+    private static final boolean VECTORIZED;
+
+    static {
+        MethodHandle intIndexOf = null;
+        MethodHandle intLastIndexOf = null;
+        MethodHandle longIndexOf = null;
+        MethodHandle longLastIndexOf = null;
+        if (Boolean.parseBoolean(System.getProperty("common.vector", "true"))
+                && ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()) {
+            try {
+                Class<?> kernels = Class.forName("common.VectorizedSearch");
+                MethodHandles.Lookup lookup = MethodHandles.lookup();
+                MethodType ints = MethodType.methodType(int.class, int[].class, int.class, int.class, int.class);
+                MethodType longs = MethodType.methodType(int.class, long[].class, int.class, int.class, long.class);
+                intIndexOf = lookup.findStatic(kernels, "indexOf", ints);
+                intLastIndexOf = lookup.findStatic(kernels, "lastIndexOf", ints);
+                longIndexOf = lookup.findStatic(kernels, "indexOf", longs);
+                longLastIndexOf = lookup.findStatic(kernels, "lastIndexOf", longs);
+            } catch (ReflectiveOperationException | LinkageError e) {
+                // src-vector was not compiled in: keep the scalar loops
+                intIndexOf = intLastIndexOf = longIndexOf = longLastIndexOf = null;
+            }
+        }
+        INT_INDEX_OF = intIndexOf;
+        INT_LAST_INDEX_OF = intLastIndexOf;
+        LONG_INDEX_OF = longIndexOf;
+        LONG_LAST_INDEX_OF = longLastIndexOf;
+        VECTORIZED = longLastIndexOf != null;
+    }
+
+    private PrimitiveSearch() {
+    }
+
+    /**
+     * Checks if searches use the Vector API.
+     *
+     * @return true if the vector module and VectorizedSearch are present and not disabled
+     */
+    public static boolean isVectorized() {
+        return VECTORIZED;
+    }
+
+    /**
+     * Returns the first index in [from, to) holding key.
+     * Time Complexity: O(to - from), a SIMD register width per step when vectorized
+     *
+     * @param array the array to search
+     * @param from  first index to check (inclusive)
+     * @param to    end of the range (exclusive)
+     * @param key   the value to find
+     * @return the index, or -1 if not found
+     */
+    public static int indexOf(int[] array, int from, int to, int key) {
+        if (VECTORIZED && to - from >= VECTOR_THRESHOLD) {
+            try {
+                return (int) INT_INDEX_OF.invokeExact(array, from, to, key);
+            } catch (Throwable e) {
+                throw rethrow(e);
+            }
+        }
+        for (int i = from; i < to; i++) {
+            if (array[i] == key) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the last index in [from, to) holding key.
+     * Time Complexity: O(to - from), a SIMD register width per step when vectorized
+     *
+     * @param array the array to search
+     * @param from  first index of the range (inclusive)
+     * @param to    end of the range (exclusive); checked first
+     * @param key   the value to find
+     * @return the index, or -1 if not found
+     */
+    public static int lastIndexOf(int[] array, int from, int to, int key) {
+        if (VECTORIZED && to - from >= VECTOR_THRESHOLD) {
+            try {
+                return (int) INT_LAST_INDEX_OF.invokeExact(array, from, to, key);
+            } catch (Throwable e) {
+                throw rethrow(e);
+            }
+        }
+        for (int i = to - 1; i >= from; i--) {
+            if (array[i] == key) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the first index in [from, to) holding key.
+     * Time Complexity: O(to - from), a SIMD register width per step when vectorized
+     *
+     * @param array the array to search
+     * @param from  first index to check (inclusive)
+     * @param to    end of the range (exclusive)
+     * @param key   the value to find
+     * @return the index, or -1 if not found
+     */
+    public static int indexOf(long[] array, int from, int to, long key) {
+        if (VECTORIZED && to - from >= VECTOR_THRESHOLD) {
+            try {
+                return (int) LONG_INDEX_OF.invokeExact(array, from, to, key);
+            } catch (Throwable e) {
+                throw rethrow(e);
+            }
+        }
+        for (int i = from; i < to; i++) {
+            if (array[i] == key) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the last index in [from, to) holding key.
+     * Time Complexity: O(to - from), a SIMD register width per step when vectorized
+     *
+     * @param array the array to search
+     * @param from  first index of the range (inclusive)
+     * @param to    end of the range (exclusive); checked first
+     * @param key   the value to find
+     * @return the index, or -1 if not found
+     */
+    public static int lastIndexOf(long[] array, int from, int to, long key) {
+        if (VECTORIZED && to - from >= VECTOR_THRESHOLD) {
+            try {
+                return (int) LONG_LAST_INDEX_OF.invokeExact(array, from, to, key);
+            } catch (Throwable e) {
+                throw rethrow(e);
+            }
+        }
+        for (int i = to - 1; i >= from; i--) {
+            if (array[i] == key) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Passes on what a search kernel threw; they throw no checked exceptions.
+     */
+    private static RuntimeException rethrow(Throwable e) {
+        if (e instanceof RuntimeException) {
+            return (RuntimeException) e;
+        }
+        if (e instanceof Error) {
+            throw (Error) e;
+        }
+        return new IllegalStateException(e);
+    }
+}
@@ -0,0 +1,33 @@
+package common;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * JFR event committed when an element leaves an instrumented structure,
+ * carrying how long it stayed there. Disabled unless a recording enables
+ * "datastructures.Sojourn", since it fires on every remove.
+ */
+@Name("datastructures.Sojourn")
+@Enabled(false)
+@Label("Element Sojourn")
+@Category({"Data Structures"})
+@Description("Time an element spent in an instrumented stack or queue")
+public class SojournEvent extends Event {
+
+    @Label("Structure")
+    public String structure;
+
+    @Label("Sojourn Time")
+    @Timespan(Timespan.NANOSECONDS)
+    public long sojourn;
+
+    @Label("Size")
+    @Description("Size after the element was removed")
+    public int size;
+}
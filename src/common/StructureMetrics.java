@@ -0,0 +1,275 @@
+package common;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Operation counters, occupancy and sojourn-time histograms for one stack
+ * or queue, filled in by the instrumented decorators (InstrumentedStack,
+ * InstrumentedQueue) and readable through JMX or JFR events.
+ *
+ * Instrumentation is opt-in with -Dcommon.metrics=true. ENABLED is a
+ * static final read once at class-load time, so when it is off the JIT
+ * folds every "if (StructureMetrics.ENABLED)" branch away and a decorator
+ * costs the same as calling the wrapped structure directly.
+ *
+ * All recording methods are thread-safe and allocation-free.
+ */
+public class StructureMetrics implements StructureMetricsMBean {
+    public static final boolean ENABLED = Boolean.getBoolean("common.metrics");
+
+    private final String name;
+    private final LongAdder inserts = new LongAdder();
+    private final LongAdder removes = new LongAdder();
+    private final LongAdder peeks = new LongAdder();
+    private final LongAdder overflows = new LongAdder();
+    private final LongAdder underflows = new LongAdder();
+    private final AtomicInteger highWaterMark = new AtomicInteger();
+    private final LogHistogram occupancy = new LogHistogram();
+    private final LogHistogram sojourn = new LogHistogram();
+    private volatile int currentSize;
+    private ObjectName objectName;  // Set while registered with JMX
+
+    /**
+     * Constructs empty metrics.
+     *
+     * @param name the structure's name, used in JMX and JFR
+     * @throws IllegalArgumentException if name is null
+     */
+    public StructureMetrics(String name) {
+        if (name == null) {
+            throw new IllegalArgumentException("Name cannot be null");
+        }
+        this.name = name;
+    }
+
+    /**
+     * Records a successful push/enqueue.
+     * Time Complexity: O(1)
+     *
+     * @param sizeAfter the size after the insert
+     */
+    public void recordInsert(int sizeAfter) {
+        inserts.increment();
+        currentSize = sizeAfter;
+        occupancy.record(sizeAfter);
+        if (sizeAfter > highWaterMark.get()) {
+            highWaterMark.accumulateAndGet(sizeAfter, Math::max);
+        }
+    }
+
+    /**
+     * Records a successful pop/dequeue.
+     * Time Complexity: O(1)
+     *
+     * @param sizeAfter     the size after the remove
+     * @param sojournNanos  how long the element was in the structure, or -1 if unknown
+     */
+    public void recordRemove(int sizeAfter, long sojournNanos) {
+        removes.increment();
+        currentSize = sizeAfter;
+        if (sojournNanos >= 0) {
+            sojourn.record(sojournNanos);
+
+            SojournEvent event = new SojournEvent();
+            if (event.shouldCommit()) {
+                event.structure = name;
+                event.sojourn = sojournNanos;
+                event.size = sizeAfter;
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * Records a successful peek.
+     * Time Complexity: O(1)
+     */
+    public void recordPeek() {
+        peeks.increment();
+    }
+
+    /**
+     * Records an insert rejected because the structure was full.
+     * Time Complexity: O(1)
+     *
+     * @param size the size at the time
+     */
+    public void recordOverflow(int size) {
+        overflows.increment();
+        commitCapacityEvent("overflow", size);
+    }
+
+    /**
+     * Records a remove or peek rejected because the structure was empty.
+     * Time Complexity: O(1)
+     */
+    public void recordUnderflow() {
+        underflows.increment();
+        commitCapacityEvent("underflow", 0);
+    }
+
+    /**
+     * Records a clear().
+     * Time Complexity: O(1)
+     */
+    public void recordClear() {
+        currentSize = 0;
+    }
+
+    /**
+     * Registers these metrics with the platform MBean server as
+     * "common:type=StructureMetrics,name=&lt;name&gt;".
+     *
+     * @return the registered object name
+     * @throws IllegalStateException if the name is taken or registration fails
+     */
+    public synchronized ObjectName registerMBean() {
+        if (objectName != null) {
+            return objectName;
+        }
+        try {
+            ObjectName candidate = new ObjectName("common:type=StructureMetrics,name=" + ObjectName.quote(name));
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, candidate);
+            objectName = candidate;
+            return objectName;
+        } catch (JMException e) {
+            throw new IllegalStateException("Cannot register metrics '" + name + "' with JMX", e);
+        }
+    }
+
+    /**
+     * Removes these metrics from the platform MBean server, if registered.
+     *
+     * @throws IllegalStateException if unregistration fails
+     */
+    public synchronized void unregisterMBean() {
+        if (objectName == null) {
+            return;
+        }
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            if (server.isRegistered(objectName)) {
+                server.unregisterMBean(objectName);
+            }
+            objectName = null;
+        } catch (JMException e) {
+            throw new IllegalStateException("Cannot unregister metrics '" + name + "' from JMX", e);
+        }
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public long getInserts() {
+        return inserts.sum();
+    }
+
+    @Override
+    public long getRemoves() {
+        return removes.sum();
+    }
+
+    @Override
+    public long getPeeks() {
+        return peeks.sum();
+    }
+
+    @Override
+    public long getOverflows() {
+        return overflows.sum();
+    }
+
+    @Override
+    public long getUnderflows() {
+        return underflows.sum();
+    }
+
+    @Override
+    public int getCurrentSize() {
+        return currentSize;
+    }
+
+    @Override
+    public int getHighWaterMark() {
+        return highWaterMark.get();
+    }
+
+    @Override
+    public long getOccupancyP50() {
+        return occupancy.getPercentile(50);
+    }
+
+    @Override
+    public long getOccupancyP99() {
+        return occupancy.getPercentile(99);
+    }
+
+    @Override
+    public long getSojournP50Nanos() {
+        return sojourn.getPercentile(50);
+    }
+
+    @Override
+    public long getSojournP99Nanos() {
+        return sojourn.getPercentile(99);
+    }
+
+    @Override
+    public long getSojournP999Nanos() {
+        return sojourn.getPercentile(99.9);
+    }
+
+    @Override
+    public long getSojournMaxNanos() {
+        return sojourn.getMax();
+    }
+
+    @Override
+    public void reset() {
+        inserts.reset();
+        removes.reset();
+        peeks.reset();
+        overflows.reset();
+        underflows.reset();
+        highWaterMark.set(currentSize);
+        occupancy.reset();
+        sojourn.reset();
+    }
+
+    /**
+     * Returns a one-line summary of the metrics.
+     *
+     * @return string representation
+     */
+    @Override
+    public String toString() {
+        return "Metrics[" + name + "]: inserts=" + getInserts() + ", removes=" + getRemoves()
+                + ", overflows=" + getOverflows() + ", underflows=" + getUnderflows()
+                + ", size=" + getCurrentSize() + ", highWater=" + getHighWaterMark()
+                + ", sojournP50=" + getSojournP50Nanos() + "ns, sojournP99=" + getSojournP99Nanos() + "ns";
+    }
+
+    /**
+     * Commits a CapacityEvent if a JFR recording wants it.
+     *
+     * @param operation "overflow" or "underflow"
+     * @param size      the size at the time
+     */
+    private void commitCapacityEvent(String operation, int size) {
+        CapacityEvent event = new CapacityEvent();
+        if (event.shouldCommit()) {
+            event.structure = name;
+            event.operation = operation;
+            event.size = size;
+            event.commit();
+        }
+    }
+}
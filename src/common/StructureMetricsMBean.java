@@ -0,0 +1,55 @@
+package common;
+
+/**
+ * JMX view of StructureMetrics.
+ * Every attribute is a snapshot; percentiles are accurate to within 12.5%.
+ */
+public interface StructureMetricsMBean {
+
+    /** @return the name the structure was registered under */
+    String getName();
+
+    /** @return successful push/enqueue operations */
+    long getInserts();
+
+    /** @return successful pop/dequeue operations */
+    long getRemoves();
+
+    /** @return successful peek operations */
+    long getPeeks();
+
+    /** @return inserts rejected because the structure was full */
+    long getOverflows();
+
+    /** @return removes and peeks rejected because the structure was empty */
+    long getUnderflows();
+
+    /** @return the size seen after the most recent operation */
+    int getCurrentSize();
+
+    /** @return the largest size ever seen */
+    int getHighWaterMark();
+
+    /** @return the median size seen after each insert */
+    long getOccupancyP50();
+
+    /** @return the 99th percentile of the size seen after each insert */
+    long getOccupancyP99();
+
+    /** @return the median time elements spent in the structure, in nanoseconds */
+    long getSojournP50Nanos();
+
+    /** @return the 99th percentile of time elements spent in the structure, in nanoseconds */
+    long getSojournP99Nanos();
+
+    /** @return the 99.9th percentile of time elements spent in the structure, in nanoseconds */
+    long getSojournP999Nanos();
+
+    /** @return the longest time an element spent in the structure, in nanoseconds */
+    long getSojournMaxNanos();
+
+    /**
+     * Clears all counters and histograms (the current size is kept).
+     */
+    void reset();
+}
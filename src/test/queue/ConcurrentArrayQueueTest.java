@@ -0,0 +1,60 @@
+package test.queue;
+
+import MyQueue.ConcurrentArrayQueue;
+import MyQueue.ShardedQueue;
+
+/**
+ * Checks for ConcurrentArrayQueue at the smallest capacities.
+ * Run with: java -cp bin test.queue.ConcurrentArrayQueueTest
+ */
+public class ConcurrentArrayQueueTest {
+
+    public static void main(String[] args) {
+        rejectsCapacityOne();
+        shardedQueueRejectsShardCapacityOne();
+        capacityTwoRefusesThirdElementAfterReuse();
+        System.out.println("ConcurrentArrayQueueTest: all checks passed");
+    }
+
+    /**
+     * A single slot's sequence cannot tell "holds an element" from "free for the
+     * next producer", so capacity 1 used to let a second offer overwrite the
+     * first element and leave poll() spinning.
+     */
+    private static void rejectsCapacityOne() {
+        try {
+            new ConcurrentArrayQueue<Integer>(1);
+            throw new AssertionError("capacity 1 should be rejected");
+        } catch (IllegalArgumentException expected) {
+            // Expected
+        }
+    }
+
+    private static void shardedQueueRejectsShardCapacityOne() {
+        try {
+            new ShardedQueue<Integer>(2, 1, 1);
+            throw new AssertionError("shard capacity 1 should be rejected");
+        } catch (IllegalArgumentException expected) {
+            // Expected
+        }
+    }
+
+    private static void capacityTwoRefusesThirdElementAfterReuse() {
+        ConcurrentArrayQueue<Integer> queue = new ConcurrentArrayQueue<>(2);
+        for (int lap = 0; lap < 4; lap++) {
+            check(queue.offer(1), "first offer");
+            check(queue.offer(2), "second offer");
+            check(!queue.offer(3), "offer on a full queue must fail");
+            check(queue.size() == 2, "size after filling");
+            check(queue.poll() == 1, "FIFO order");
+            check(queue.poll() == 2, "FIFO order");
+            check(queue.poll() == null, "poll on an empty queue");
+        }
+    }
+
+    private static void check(boolean condition, String message) {
+        if (!condition) {
+            throw new AssertionError(message);
+        }
+    }
+}